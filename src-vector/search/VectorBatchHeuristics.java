@@ -0,0 +1,57 @@
+package search;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link BatchHeuristics} on the incubating Vector API.
+ * Compiled separately from the core (see the README) and only loaded through {@link BatchHeuristics#best()} once the module is known
+ * to be present; the tail that does not fill a whole vector runs scalar.
+ */
+final class VectorBatchHeuristics implements BatchHeuristics {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void hamming(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out) {
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector acc = IntVector.zero(SPECIES);
+            acc = acc.add(one, IntVector.fromArray(SPECIES, r, i).compare(VectorOperators.NE, goalR));
+            acc = acc.add(one, IntVector.fromArray(SPECIES, g, i).compare(VectorOperators.NE, goalG));
+            acc = acc.add(one, IntVector.fromArray(SPECIES, b, i).compare(VectorOperators.NE, goalB));
+            acc.intoArray(out, i);
+        }
+        ScalarBatchHeuristics.hammingRange(r, g, b, i, count, goalR, goalG, goalB, out);
+    }
+
+    @Override
+    public void chebyshev(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector acc = chebyshev(IntVector.fromArray(SPECIES, r, i), goalR)
+                    .add(chebyshev(IntVector.fromArray(SPECIES, g, i), goalG))
+                    .add(chebyshev(IntVector.fromArray(SPECIES, b, i), goalB));
+            acc.intoArray(out, i);
+        }
+        ScalarBatchHeuristics.chebyshevRange(r, g, b, i, count, goalR, goalG, goalB, out);
+    }
+
+    private static IntVector chebyshev(IntVector cells, int goalCell) {
+        // For cells 0..8, (cell * 11) >> 5 == cell / 3, which avoids a vector division.
+        IntVector rows = cells.mul(11).lanewise(VectorOperators.ASHR, 5);
+        IntVector cols = cells.sub(rows.mul(3));
+        IntVector dRow = rows.sub(goalCell / 3).abs();
+        IntVector dCol = cols.sub(goalCell % 3).abs();
+        return dRow.max(dCol);
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length() + "x32";
+    }
+}
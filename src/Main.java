@@ -1,15 +1,86 @@
 import UI.MainFrame;
+import model.GameState;
+import model.MoveRules;
+import search.AStarSolver;
+import search.SearchResult;
 
 import javax.swing.*;
 
 /**
  * Entry point.
+ *
+ * Without arguments this opens the GUI. {@code Main solve <initial> <goal> [maxDepth] [--timing]}
+ * solves one instance headlessly, with boards written row-major as in
+ * {@code R.G..B...}; {@code --timing} also prints the time since JVM start. Exits with
+ * 0 when solved, 1 when there is no solution within the limit and 2 on invalid arguments.
  */
 public class Main {
+
+    private static final String USAGE = "usage: Main solve <initial> <goal> [maxDepth] [--timing]";
+
     public static void main(String[] args) {
+        if (args.length > 0 && "solve".equals(args[0])) {
+            solveHeadless(args);
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
             MainFrame frame = new MainFrame();
             frame.setVisible(true);
         });
     }
+
+    private static void solveHeadless(String[] args) {
+        if (args.length < 3) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        boolean timing = false;
+        int maxDepth = 10;
+        long mainMillis = System.currentTimeMillis();
+        GameState initial;
+        GameState goal;
+        try {
+            for (int i = 3; i < args.length; i++) {
+                if ("--timing".equals(args[i])) {
+                    timing = true;
+                } else {
+                    maxDepth = parseMaxDepth(args[i]);
+                }
+            }
+            initial = GameState.fromBoardString(args[1], MoveRules.standard());
+            goal = GameState.fromBoardString(args[2], MoveRules.standard());
+        } catch (IllegalArgumentException ex) {
+            System.err.println(USAGE);
+            System.err.println(ex.getMessage());
+            System.exit(2);
+            return;
+        }
+        SearchResult result = new AStarSolver(initial, goal, maxDepth).solve(null);
+        long solvedMillis = System.currentTimeMillis();
+
+        System.out.println(result.getMessage());
+        StringBuilder path = new StringBuilder();
+        for (GameState s : result.getPath()) {
+            if (path.length() > 0) path.append(' ');
+            path.append(s.toBoardString());
+        }
+        if (result.isSolved()) {
+            System.out.println(path);
+        }
+        if (timing) {
+            // Read after the solve: the management classes are slow to load.
+            long jvmStartMillis = java.lang.management.ManagementFactory.getRuntimeMXBean().getStartTime();
+            System.out.println("jvm-start-to-solution-ms " + (solvedMillis - jvmStartMillis));
+            System.out.println("main-to-solution-ms " + (solvedMillis - mainMillis));
+        }
+        System.exit(result.isSolved() ? 0 : 1);
+    }
+
+    private static int parseMaxDepth(String arg) {
+        try {
+            return Integer.parseInt(arg);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("maxDepth must be a whole number, got '" + arg + "'");
+        }
+    }
 }
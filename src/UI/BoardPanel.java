@@ -5,6 +5,8 @@ import model.Position;
 import model.TileColor;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import java.awt.*;
 
 /**
@@ -69,6 +71,7 @@ public class BoardPanel extends JPanel {
         }
         cells[row][col].setText(next);
         applyColor(row, col, next);
+        fireChanged();
     }
 
     public void clearBoard() {
@@ -78,6 +81,21 @@ public class BoardPanel extends JPanel {
                 applyColor(r, c, "");
             }
         }
+        fireChanged();
+    }
+
+    /**
+     * Notified after every edit of the board, whether or not it is a valid configuration yet.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        listenerList.add(ChangeListener.class, listener);
+    }
+
+    private void fireChanged() {
+        ChangeEvent event = new ChangeEvent(this);
+        for (ChangeListener listener : listenerList.getListeners(ChangeListener.class)) {
+            listener.stateChanged(event);
+        }
     }
 
     /**
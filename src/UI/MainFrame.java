@@ -1,9 +1,12 @@
 package UI;
 
 import model.GameState;
+import model.MoveRules;
 import model.TileColor;
 import search.AStarSolver;
 import search.SearchResult;
+import search.SolverMetrics;
+import search.SpeculativeScheduler;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,9 +16,14 @@ import java.awt.*;
  */
 public class MainFrame extends JFrame {
 
+    // Requirement 5: move limit of the search.
+    private static final int MAX_MOVES = 10;
+
     private final BoardPanel initialBoardPanel;
     private final BoardPanel goalBoardPanel;
     private final ControlPanel controlPanel;
+    // Solves each valid pair of boards while the user is still editing.
+    private final SpeculativeScheduler speculative = new SpeculativeScheduler(MoveRules.standard(), MAX_MOVES);
 
     public MainFrame() {
         super("3x3 Tile Puzzle - A* Search");
@@ -48,6 +56,22 @@ public class MainFrame extends JFrame {
     private void wireActions() {
         controlPanel.getSolveButton().addActionListener(e -> onSolve());
         controlPanel.getResetButton().addActionListener(e -> onReset());
+        initialBoardPanel.addChangeListener(e -> onBoardsEdited());
+        goalBoardPanel.addChangeListener(e -> onBoardsEdited());
+    }
+
+    /**
+     * Starts a background solve whenever both boards hold a valid
+     * configuration, so that Solve can answer from the finished result.
+     */
+    private void onBoardsEdited() {
+        try {
+            GameState initialState = initialBoardPanel.buildGameState(TileColor.R);
+            GameState goalState = goalBoardPanel.buildGameState(TileColor.R);
+            speculative.submit(initialState, goalState);
+        } catch (IllegalStateException ex) {
+            speculative.cancel();
+        }
     }
 
     private void onReset() {
@@ -85,8 +109,13 @@ public class MainFrame extends JFrame {
             treeDialog.setVisible(true);
 
             // Requirement 3 & 5: A* with Hamming heuristic and 10-move limit.
-            AStarSolver solver = new AStarSolver(initialState, goalState, 10);
-            SearchResult result = solver.solve(listener);
+            // A cached answer comes with its expansions, which draw the tree without a second search.
+            SearchResult result = speculative.cached(initialState, goalState, listener);
+            if (result == null) {
+                result = new AStarSolver(initialState, goalState, MAX_MOVES).solve(listener);
+            } else {
+                SolverMetrics.global().record(result);
+            }
 
             treeDialog.showMessage(result.getMessage());
 
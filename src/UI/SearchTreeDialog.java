@@ -73,7 +73,15 @@ public class SearchTreeDialog extends JDialog {
         treePanel.ensureRoot(start);
     }
 
+    /**
+     * See {@link StateTreePanel#setNodeCap}.
+     */
+    public void setNodeCap(int cap) {
+        treePanel.setNodeCap(cap);
+    }
+
     public void appendSolutionPath(List<GameState> path) {
+        treePanel.setSolutionPath(path);
         StringBuilder sb = new StringBuilder("Solution path: ");
         for (int i = 0; i < path.size(); i++) {
             GameState s = path.get(i);
@@ -1,169 +1,798 @@
 package UI;
 
 import model.GameState;
+import model.Position;
 import model.TileColor;
 import search.Node;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Simple tree/graph visualizer for the search.
+ *
+ * Nodes are laid out on a grid (row = depth, column = index within the level),
+ * so the grid itself doubles as the spatial index: painting only walks the rows
+ * and columns that intersect the clip rectangle.
+ *
+ * The panel shows at most {@link #setNodeCap node cap} boxes. Past the cap,
+ * subtrees off the path to the node being expanded (and off the solution
+ * path, once known) are folded into summary boxes, least promising first;
+ * their nodes are kept only as packed ints. Clicking a summary unfolds it one
+ * level. Nodes keep the state and costs of a search node, never the node
+ * itself, so the panel does not pin the search's parent chains.
  */
 public class StateTreePanel extends JPanel {
 
+    public static final int DEFAULT_NODE_CAP = 2000;
+
     private static final int NODE_WIDTH = 170;
     private static final int NODE_HEIGHT = 80;
     private static final int H_SPACING = 40;
     private static final int V_SPACING = 100;
     private static final int MARGIN = 40;
+    private static final int COLUMN_STEP = NODE_WIDTH + H_SPACING;
+    private static final int ROW_STEP = NODE_HEIGHT + V_SPACING;
+
+    // Below this zoom nodes are painted as dots and edges as plain lines.
+    private static final double DETAIL_SCALE = 0.6;
+    private static final int DOT_SIZE = 24;
+
+    private static final int MINI_CELL = 18;
+    private static final int MINI_BOARD_WIDTH = 3 * (MINI_CELL + 2) + 2;
+    private static final int MINI_BOARD_HEIGHT = 3 * (MINI_CELL + 2) + 18;
+    // Mini boards are rendered at 2x so they stay crisp at the maximum zoom.
+    private static final int MINI_BOARD_RES = 2;
+    private static final int MINI_BOARD_CACHE_SIZE = 256;
 
+    private static final Color EDGE_COLOR = new Color(90, 90, 90);
+    private static final Color NODE_FRAME = new Color(60, 100, 160);
+    private static final Color NODE_FILL = new Color(230, 240, 255);
+    private static final Color INITIAL_FRAME = new Color(0, 123, 255);
+    private static final Color INITIAL_FILL = new Color(220, 235, 255);
+    private static final Color GOAL_FRAME = new Color(40, 167, 69);
+    private static final Color GOAL_FILL = new Color(223, 240, 223);
+    private static final Color SUMMARY_FRAME = new Color(130, 130, 130);
+    private static final Color SUMMARY_FILL = new Color(238, 238, 238);
+    private static final Color GRID_COLOR = new Color(180, 180, 180);
+    private static final Color TILE_R = new Color(220, 53, 69);
+    private static final Color TILE_G = new Color(40, 167, 69);
+    private static final Color TILE_B = new Color(0, 123, 255);
+    private static final BasicStroke EDGE_STROKE = new BasicStroke(1.2f);
+
+    // Applies the edits requested from the EDT (solution path, clicks on summaries)
+    // so that the EDT never waits for writeLock while an expansion is ingested.
+    private static final ExecutorService EDITOR = Executors.newSingleThreadExecutor(task -> {
+        Thread t = new Thread(task, "StateTreeEditor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Writer-side model, guarded by writeLock: ingestion and the editor thread both change it.
+    private final Object writeLock = new Object();
     private final Map<GameState, VizNode> nodes = new HashMap<>();
-    private final List<VizEdge> edges = new ArrayList<>();
-    private int maxDepth = 0;
+    // Packed state of every folded node -> (store id << 32 | slot in that store).
+    private final Map<Integer, Long> collapsed = new HashMap<>();
+    // Folded subtrees by id; null once unfolded or merged into a bigger one.
+    private final List<CollapsedStore> stores = new ArrayList<>();
+    // Nodes created by unfolding that do not take over an existing slot.
+    private final List<VizNode> added = new ArrayList<>();
+    private final Set<GameState> solutionStates = new HashSet<>();
+    private VizNode[][] levelNodes = new VizNode[0][];
+    private int[] levelSizes = new int[0];
+    // Edges bucketed by the upper of their two rows; edges spanning more than
+    // one row are rare and kept aside so the row buckets stay exact.
+    private VizEdge[][] rowEdges = new VizEdge[0][];
+    private int[] rowEdgeSizes = new int[0];
+    private VizEdge[] longEdges = new VizEdge[0];
+    private int longEdgeCount;
+    private int maxDepth;
+    private int maxPerLevel = 1;
+    private int liveCount;
+    private int nodeCap = DEFAULT_NODE_CAP;
+    private int markStamp;
+
+    // What the painter sees. Replaced wholesale after every ingested expansion.
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final AtomicBoolean relayoutPending = new AtomicBoolean();
+    private volatile GameState initialState;
+    private volatile GameState goalState;
+
+    // EDT-only state.
+    private final Map<GameState, BufferedImage> miniBoards =
+            new LinkedHashMap<GameState, BufferedImage>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<GameState, BufferedImage> eldest) {
+                    return size() > MINI_BOARD_CACHE_SIZE;
+                }
+            };
+    private int layoutWidth = 900;
     private double scale = 1.0;
-    private GameState initialState;
-    private GameState goalState;
 
     public StateTreePanel() {
         setBackground(Color.WHITE);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                expandAt(e.getX(), e.getY());
+            }
+        });
     }
 
-    public synchronized void ensureRoot(Node root) {
-        if (!nodes.containsKey(root.getState())) {
-            VizNode vn = new VizNode(root, 0);
-            nodes.put(root.getState(), vn);
-            maxDepth = 0;
-            relayout();
+    /**
+     * Maximum number of boxes shown before subtrees are folded. Folding brings
+     * the count down to three quarters of the cap, so it does not run on every
+     * expansion.
+     */
+    public void setNodeCap(int cap) {
+        if (cap < 2) {
+            throw new IllegalArgumentException("Node cap must be at least 2, got " + cap);
+        }
+        synchronized (writeLock) {
+            nodeCap = cap;
         }
     }
 
-    public synchronized void setInitialGoal(GameState initial, GameState goal) {
+    /**
+     * Ingestion ({@code ensureRoot}, {@code addExpansion}) is meant to be called
+     * from one thread, typically the search listener's worker; it only waits
+     * for the editor thread applying a solution path or unfolding a summary.
+     * Painting never waits; it reads the last published snapshot.
+     */
+    public void ensureRoot(Node root) {
+        synchronized (writeLock) {
+            GameState s = root.getState();
+            if (!nodes.containsKey(s) && !collapsed.containsKey(key(s))) {
+                addNode(new VizNode(s, root.getGCost(), root.getHCost(), null, 0, null));
+                publish();
+            }
+        }
+    }
+
+    public void setInitialGoal(GameState initial, GameState goal) {
         this.initialState = initial;
         this.goalState = goal;
     }
 
-    public synchronized void addExpansion(Node parent, List<Node> successors) {
-        ensureRoot(parent);
-        VizNode parentViz = nodes.get(parent.getState());
-        int depth = parentViz.depth + 1;
+    public void addExpansion(Node parent, List<Node> successors) {
+        synchronized (writeLock) {
+            VizNode parentViz = nodes.get(parent.getState());
+            if (parentViz == null) {
+                Long owner = collapsed.get(key(parent.getState()));
+                if (owner != null) {
+                    // Expanded inside a folded subtree: the new nodes join it.
+                    addToStore(owner, successors);
+                    publish();
+                    return;
+                }
+                parentViz = addNode(new VizNode(parent.getState(), parent.getGCost(), parent.getHCost(), null, 0, null));
+            }
+            int depth = parentViz.depth + 1;
+
+            for (Node succ : successors) {
+                GameState s = succ.getState();
+                VizNode child = nodes.get(s);
+                if (child == null) {
+                    if (collapsed.containsKey(key(s))) {
+                        continue;
+                    }
+                    child = addNode(new VizNode(s, succ.getGCost(), succ.getHCost(), null, depth, parentViz));
+                }
+                parentViz.out.add(child);
+                addEdge(parentViz, child);
+            }
+            if (liveCount > nodeCap) {
+                collapseDown(parentViz);
+                rebuild();
+            }
+            publish();
+        }
+    }
+
+    /**
+     * Keeps the given path unfolded: summaries holding its states are unfolded
+     * and later folding leaves it alone. Returns at once; the change is made on
+     * the editor thread and shows with the next published snapshot.
+     */
+    public void setSolutionPath(List<GameState> path) {
+        List<GameState> copy = new ArrayList<>(path);
+        EDITOR.execute(() -> applySolutionPath(copy));
+    }
+
+    private void applySolutionPath(List<GameState> path) {
+        synchronized (writeLock) {
+            solutionStates.clear();
+            solutionStates.addAll(path);
+            VizNode last = null;
+            for (GameState s : path) {
+                VizNode n = nodes.get(s);
+                while (n == null) {
+                    Long owner = collapsed.get(key(s));
+                    if (owner == null) {
+                        break;
+                    }
+                    expandSummary(stores.get((int) (owner >>> 32)).summary);
+                    n = nodes.get(s);
+                }
+                if (n != null) {
+                    last = n;
+                }
+            }
+            rebuild();
+            if (last != null && liveCount > nodeCap) {
+                collapseDown(last);
+                rebuild();
+            }
+            publish();
+        }
+    }
+
+    private VizNode addNode(VizNode vn) {
+        int depth = vn.depth;
+        if (depth >= levelNodes.length) {
+            levelNodes = Arrays.copyOf(levelNodes, depth + 1);
+            levelSizes = Arrays.copyOf(levelSizes, depth + 1);
+            for (int d = 0; d <= depth; d++) {
+                if (levelNodes[d] == null) {
+                    levelNodes[d] = new VizNode[8];
+                }
+            }
+        }
+        int index = levelSizes[depth];
+        if (index == levelNodes[depth].length) {
+            // Published snapshots keep the old array; they never read past their own count.
+            levelNodes[depth] = Arrays.copyOf(levelNodes[depth], index * 2);
+        }
+        vn.index = index;
+        levelNodes[depth][index] = vn;
+        levelSizes[depth] = index + 1;
+        if (vn.state != null) {
+            nodes.put(vn.state, vn);
+        }
+        liveCount++;
+        maxDepth = Math.max(maxDepth, depth);
+        maxPerLevel = Math.max(maxPerLevel, index + 1);
+        return vn;
+    }
+
+    private void addEdge(VizNode from, VizNode to) {
+        VizEdge e = new VizEdge(from.depth, from.index, to.depth, to.index);
+        if (Math.abs(e.fromDepth - e.toDepth) != 1) {
+            if (longEdgeCount == longEdges.length) {
+                longEdges = Arrays.copyOf(longEdges, Math.max(8, longEdgeCount * 2));
+            }
+            longEdges[longEdgeCount++] = e;
+            return;
+        }
+        int top = Math.min(e.fromDepth, e.toDepth);
+        if (top >= rowEdges.length) {
+            rowEdges = Arrays.copyOf(rowEdges, top + 1);
+            rowEdgeSizes = Arrays.copyOf(rowEdgeSizes, top + 1);
+            for (int r = 0; r <= top; r++) {
+                if (rowEdges[r] == null) {
+                    rowEdges[r] = new VizEdge[8];
+                }
+            }
+        }
+        int count = rowEdgeSizes[top];
+        if (count == rowEdges[top].length) {
+            rowEdges[top] = Arrays.copyOf(rowEdges[top], count * 2);
+        }
+        rowEdges[top][count] = e;
+        rowEdgeSizes[top] = count + 1;
+    }
 
+    private void addToStore(long owner, List<Node> successors) {
+        CollapsedStore store = stores.get((int) (owner >>> 32));
+        int parentSlot = (int) owner;
         for (Node succ : successors) {
-            VizNode child = nodes.get(succ.getState());
-            if (child == null) {
-                child = new VizNode(succ, depth);
-                nodes.put(succ.getState(), child);
+            int k = key(succ.getState());
+            if (nodes.containsKey(succ.getState()) || collapsed.containsKey(k)) {
+                continue;
             }
-            edges.add(new VizEdge(parentViz, child));
-            maxDepth = Math.max(maxDepth, child.depth);
+            int slot = store.add(k, succ.getGCost(), succ.getHCost(), parentSlot);
+            collapsed.put(k, pack(store.id, slot));
+        }
+    }
+
+    /**
+     * Folds subtrees until at most three quarters of the cap are shown. Only
+     * subtrees hanging off a protected path are candidates: the path from the
+     * root to {@code focus} and the paths to solution states. Subtrees with the
+     * highest best f go first, larger ones first among equals. Expects the
+     * rows to be current, i.e. no unfolding since the last rebuild.
+     */
+    private void collapseDown(VizNode focus) {
+        int stamp = ++markStamp;
+        for (VizNode n = focus; n != null && n.mark != stamp; n = n.parent) {
+            n.mark = stamp;
+        }
+        for (GameState s : solutionStates) {
+            for (VizNode n = nodes.get(s); n != null && n.mark != stamp; n = n.parent) {
+                n.mark = stamp;
+            }
+        }
+
+        // Subtree sizes and best f, bottom-up: a tree child is always one row below its parent.
+        for (int d = 0; d < levelNodes.length; d++) {
+            for (int i = 0; i < levelSizes[d]; i++) {
+                VizNode n = levelNodes[d][i];
+                n.subtreeSize = 1;
+                n.subtreeBestF = n.bestF();
+            }
+        }
+        List<VizNode> candidates = new ArrayList<>();
+        for (int d = levelNodes.length - 1; d >= 0; d--) {
+            for (int i = 0; i < levelSizes[d]; i++) {
+                VizNode n = levelNodes[d][i];
+                VizNode p = n.parent;
+                if (p != null) {
+                    p.subtreeSize += n.subtreeSize;
+                    p.subtreeBestF = Math.min(p.subtreeBestF, n.subtreeBestF);
+                }
+                if (n.mark != stamp && (p == null || p.mark == stamp)) {
+                    candidates.add(n);
+                }
+            }
+        }
+        candidates.sort((a, b) -> a.subtreeBestF != b.subtreeBestF
+                ? Integer.compare(b.subtreeBestF, a.subtreeBestF)
+                : Integer.compare(b.subtreeSize, a.subtreeSize));
+
+        int target = nodeCap * 3 / 4;
+        for (VizNode n : candidates) {
+            if (liveCount <= target) {
+                break;
+            }
+            if (n.subtreeSize > 1) {
+                collapse(n);
+            }
+        }
+    }
+
+    /**
+     * Replaces the subtree under {@code root} by one summary node; folded
+     * summaries inside it are merged into the new store.
+     */
+    private void collapse(VizNode root) {
+        CollapsedStore store = new CollapsedStore(stores.size());
+        stores.add(store);
+        ArrayDeque<VizNode> stack = new ArrayDeque<>();
+        ArrayDeque<Integer> parentSlots = new ArrayDeque<>();
+        stack.push(root);
+        parentSlots.push(-1);
+        int removed = 0;
+        while (!stack.isEmpty()) {
+            VizNode n = stack.pop();
+            int parentSlot = parentSlots.pop();
+            if (!n.live) {
+                // Listed twice by its parent.
+                continue;
+            }
+            n.live = false;
+            removed++;
+            if (n.store != null) {
+                CollapsedStore sub = n.store;
+                int base = store.size;
+                for (int i = 0; i < sub.size; i++) {
+                    int slot = store.add(sub.states[i], sub.g(i), sub.h(i), i == 0 ? parentSlot : sub.parents[i] + base);
+                    collapsed.put(sub.states[i], pack(store.id, slot));
+                }
+                stores.set(sub.id, null);
+                continue;
+            }
+            int k = key(n.state);
+            int slot = store.add(k, n.g, n.h, parentSlot);
+            nodes.remove(n.state);
+            collapsed.put(k, pack(store.id, slot));
+            for (VizNode child : n.out) {
+                if (child.parent == n && child.live) {
+                    stack.push(child);
+                    parentSlots.push(slot);
+                }
+            }
+            n.out = null;
+        }
+        VizNode summary = new VizNode(null, 0, 0, store, root.depth, root.parent);
+        store.summary = summary;
+        root.replacement = summary;
+        if (root.parent != null) {
+            List<VizNode> siblings = root.parent.out;
+            siblings.set(siblings.indexOf(root), summary);
+        }
+        liveCount += 1 - removed;
+    }
+
+    /**
+     * Unfolds a summary one level: its top node and that node's children come
+     * back, each child with descendants as a summary of its own.
+     */
+    private VizNode expandSummary(VizNode summary) {
+        CollapsedStore store = summary.store;
+        int n = store.size;
+        int[] firstChild = new int[n];
+        int[] nextSibling = new int[n];
+        Arrays.fill(firstChild, -1);
+        for (int i = n - 1; i > 0; i--) {
+            int p = store.parents[i];
+            nextSibling[i] = firstChild[p];
+            firstChild[p] = i;
+        }
+        stores.set(store.id, null);
+
+        VizNode root = rehydrate(store, 0, summary.depth, summary.parent);
+        summary.live = false;
+        summary.replacement = root;
+        if (summary.parent != null) {
+            List<VizNode> siblings = summary.parent.out;
+            siblings.set(siblings.indexOf(summary), root);
+        }
+        boolean[] inSub = new boolean[n];
+        for (int c = firstChild[0]; c >= 0; c = nextSibling[c]) {
+            VizNode child;
+            if (firstChild[c] < 0) {
+                child = rehydrate(store, c, summary.depth + 1, root);
+            } else {
+                // Slots are in pre-order, so a parent's slot always precedes its children's.
+                CollapsedStore sub = new CollapsedStore(stores.size());
+                stores.add(sub);
+                int[] remap = new int[n];
+                for (int i = c; i < n; i++) {
+                    inSub[i] = i == c || (i > c && inSub[store.parents[i]]);
+                    if (inSub[i]) {
+                        remap[i] = sub.add(store.states[i], store.g(i), store.h(i),
+                                i == c ? -1 : remap[store.parents[i]]);
+                        collapsed.put(store.states[i], pack(sub.id, remap[i]));
+                    }
+                }
+                Arrays.fill(inSub, false);
+                child = new VizNode(null, 0, 0, sub, summary.depth + 1, root);
+                sub.summary = child;
+                liveCount++;
+            }
+            root.out.add(child);
+            added.add(child);
+        }
+        return root;
+    }
+
+    private VizNode rehydrate(CollapsedStore store, int slot, int depth, VizNode parent) {
+        int k = store.states[slot];
+        collapsed.remove(k);
+        VizNode v = new VizNode(unkey(k), store.g(slot), store.h(slot), null, depth, parent);
+        nodes.put(v.state, v);
+        liveCount++;
+        return v;
+    }
+
+    /**
+     * Lays the rows and edges out again after folding or unfolding. Every
+     * array is fresh, so published snapshots are unaffected.
+     */
+    private void rebuild() {
+        int depths = levelNodes.length;
+        for (VizNode n : added) {
+            depths = Math.max(depths, n.depth + 1);
+        }
+        VizNode[][] rows = new VizNode[depths][];
+        int[] sizes = new int[depths];
+        for (int d = 0; d < depths; d++) {
+            rows[d] = new VizNode[Math.max(8, d < levelSizes.length ? levelSizes[d] : 8)];
+        }
+        for (int d = 0; d < levelNodes.length; d++) {
+            for (int i = 0; i < levelSizes[d]; i++) {
+                sizes[d] = place(rows, sizes[d], levelNodes[d][i]);
+            }
+        }
+        for (VizNode n : added) {
+            sizes[n.depth] = place(rows, sizes[n.depth], n);
+        }
+        added.clear();
+
+        levelNodes = rows;
+        levelSizes = sizes;
+        rowEdges = new VizEdge[0][];
+        rowEdgeSizes = new int[0];
+        longEdges = new VizEdge[0];
+        longEdgeCount = 0;
+        maxDepth = 0;
+        maxPerLevel = 1;
+        liveCount = 0;
+        for (int d = 0; d < depths; d++) {
+            if (sizes[d] > 0) {
+                maxDepth = d;
+                maxPerLevel = Math.max(maxPerLevel, sizes[d]);
+            }
+            liveCount += sizes[d];
+            for (int i = 0; i < sizes[d]; i++) {
+                VizNode n = rows[d][i];
+                if (n.out == null) {
+                    continue;
+                }
+                n.out.removeIf(t -> !t.live);
+                for (VizNode t : n.out) {
+                    addEdge(n, t);
+                }
+            }
+        }
+    }
+
+    private static int place(VizNode[][] rows, int size, VizNode n) {
+        // A folded node's summary, or an unfolded summary's top node, takes its slot.
+        while (n != null && !n.live) {
+            n = n.replacement;
+        }
+        if (n == null) {
+            return size;
+        }
+        VizNode[] row = rows[n.depth];
+        if (size == row.length) {
+            rows[n.depth] = row = Arrays.copyOf(row, size * 2);
+        }
+        n.index = size;
+        row[size] = n;
+        return size + 1;
+    }
+
+    // EDT only.
+    private void expandAt(int px, int py) {
+        Snapshot snap = snapshot;
+        int x = (int) Math.floor(px / scale);
+        int y = (int) Math.floor(py / scale);
+        int row = Math.floorDiv(y - MARGIN, ROW_STEP);
+        if (row < 0 || row >= snap.levelNodes.length || y - rowY(row) > NODE_HEIGHT) {
+            return;
+        }
+        int startX = levelStartX(snap, row);
+        int i = Math.floorDiv(x - startX, COLUMN_STEP);
+        if (i < 0 || i >= snap.levelSizes[row] || x - startX - i * COLUMN_STEP > NODE_WIDTH) {
+            return;
+        }
+        VizNode n = snap.levelNodes[row][i];
+        if (n.store == null) {
+            return;
+        }
+        EDITOR.execute(() -> unfold(n));
+    }
+
+    private void unfold(VizNode n) {
+        synchronized (writeLock) {
+            if (!n.live) {
+                return;
+            }
+            VizNode root = expandSummary(n);
+            rebuild();
+            if (liveCount > nodeCap) {
+                collapseDown(root);
+                rebuild();
+            }
+            publish();
+        }
+    }
+
+    /**
+     * Publishes the current model. Only the small per-row index arrays are
+     * copied; the row arrays themselves are shared, since entries below a
+     * snapshot's counts are never written again.
+     */
+    private void publish() {
+        snapshot = new Snapshot(levelNodes.clone(), levelSizes.clone(), rowEdges.clone(), rowEdgeSizes.clone(),
+                longEdges, longEdgeCount, maxDepth, maxPerLevel);
+        if (relayoutPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    relayoutPending.set(false);
+                    relayout();
+                }
+            });
         }
-        relayout();
         repaint();
     }
 
+    // Cells fit in 4 bits; the turn index is below 256 for any rules the UI builds.
+    private static int key(GameState s) {
+        return cell(s.getRPos()) << 18 | cell(s.getGPos()) << 14 | cell(s.getBPos()) << 10
+                | s.getNextTile().ordinal() << 8 | s.getTurnIndex();
+    }
+
+    private static GameState unkey(int k) {
+        return new GameState(position(k >>> 18), position(k >>> 14), position(k >>> 10),
+                TileColor.values()[(k >>> 8) & 3], k & 0xFF);
+    }
+
+    private static int cell(Position p) {
+        return p.getRow() * 3 + p.getCol();
+    }
+
+    private static Position position(int bits) {
+        int c = bits & 0xF;
+        return new Position(c / 3, c % 3);
+    }
+
+    private static long pack(int storeId, int slot) {
+        return (long) storeId << 32 | slot;
+    }
+
+    // EDT only.
     private void relayout() {
-        // For each depth, spread nodes horizontally.
-        Map<Integer, List<VizNode>> levels = new HashMap<>();
-        for (VizNode n : nodes.values()) {
-            levels.computeIfAbsent(n.depth, d -> new ArrayList<>()).add(n);
-        }
-        int width = getWidth() == 0 ? 900 : getWidth();
-        for (Map.Entry<Integer, List<VizNode>> entry : levels.entrySet()) {
-            int depth = entry.getKey();
-            List<VizNode> levelNodes = entry.getValue();
-            int count = levelNodes.size();
-            int totalWidth = count * NODE_WIDTH + (count - 1) * H_SPACING;
-            int startX = Math.max(MARGIN, (width - totalWidth) / 2);
-            for (int i = 0; i < levelNodes.size(); i++) {
-                VizNode n = levelNodes.get(i);
-                int x = startX + i * (NODE_WIDTH + H_SPACING);
-                int y = MARGIN + depth * (NODE_HEIGHT + V_SPACING);
-                n.bounds = new Rectangle(x, y, NODE_WIDTH, NODE_HEIGHT);
-            }
-        }
-        int neededHeight = MARGIN * 2 + (maxDepth + 1) * (NODE_HEIGHT + V_SPACING);
-        int neededWidth = Math.max(width, MARGIN * 2 + getMaxPerLevel(levels) * (NODE_WIDTH + H_SPACING));
+        // Node positions are derived from (depth, index) at paint time, so only
+        // the overall canvas size has to be recomputed here.
+        Snapshot snap = snapshot;
+        layoutWidth = getWidth() == 0 ? 900 : getWidth();
+        int neededHeight = MARGIN * 2 + (snap.maxDepth + 1) * ROW_STEP;
+        int neededWidth = Math.max(layoutWidth, MARGIN * 2 + snap.maxPerLevel * COLUMN_STEP);
         int scaledW = (int) Math.round(neededWidth * scale);
         int scaledH = (int) Math.round(neededHeight * scale);
         setPreferredSize(new Dimension(scaledW, scaledH));
         revalidate();
     }
 
-    private int getMaxPerLevel(Map<Integer, List<VizNode>> levels) {
-        int max = 1;
-        for (List<VizNode> l : levels.values()) {
-            max = Math.max(max, l.size());
-        }
-        return max;
+    private int levelStartX(Snapshot snap, int depth) {
+        int count = snap.levelSizes[depth];
+        int totalWidth = count * NODE_WIDTH + (count - 1) * H_SPACING;
+        return Math.max(MARGIN, (layoutWidth - totalWidth) / 2);
+    }
+
+    private int nodeX(Snapshot snap, int depth, int index) {
+        return levelStartX(snap, depth) + index * COLUMN_STEP;
+    }
+
+    private static int rowY(int depth) {
+        return MARGIN + depth * ROW_STEP;
     }
 
     @Override
-    protected synchronized void paintComponent(Graphics g) {
+    protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        Snapshot snap = snapshot;
         Graphics2D g2 = (Graphics2D) g.create();
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        boolean detailed = scale >= DETAIL_SCALE;
+        if (detailed) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        }
         g2.scale(scale, scale);
 
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, (int) Math.ceil(getWidth() / scale), (int) Math.ceil(getHeight() / scale));
+        }
+        int firstRow = Math.max(0, Math.floorDiv(clip.y - MARGIN - NODE_HEIGHT - MINI_BOARD_HEIGHT, ROW_STEP));
+        int lastRow = Math.min(snap.levelNodes.length - 1, Math.floorDiv(clip.y + clip.height - MARGIN, ROW_STEP));
+
         // Draw edges first
-        g2.setStroke(new BasicStroke(1.2f));
-        g2.setColor(new Color(90, 90, 90));
-        for (VizEdge e : edges) {
-            Rectangle a = e.from.bounds;
-            Rectangle b = e.to.bounds;
-            if (a == null || b == null) continue;
-            int x1 = a.x + a.width / 2;
-            int y1 = a.y + a.height;
-            int x2 = b.x + b.width / 2;
-            int y2 = b.y;
-            int midX = (x1 + x2) / 2;
-            int ctrlOffset = (x2 - x1) / 4;
-            int ctrlY = (y1 + y2) / 2 - 20;
-            java.awt.geom.QuadCurve2D q = new java.awt.geom.QuadCurve2D.Float();
-            q.setCurve(x1, y1, midX + ctrlOffset, ctrlY, x2, y2);
-            g2.draw(q);
-            drawArrowHead(g2, midX + ctrlOffset, ctrlY, x2, y2);
+        g2.setStroke(EDGE_STROKE);
+        g2.setColor(EDGE_COLOR);
+        for (int row = Math.max(0, firstRow - 1); row <= lastRow && row < snap.rowEdges.length; row++) {
+            VizEdge[] edges = snap.rowEdges[row];
+            for (int i = 0; i < snap.rowEdgeSizes[row]; i++) {
+                paintEdge(g2, snap, edges[i], clip, detailed);
+            }
+        }
+        for (int i = 0; i < snap.longEdgeCount; i++) {
+            paintEdge(g2, snap, snap.longEdges[i], clip, detailed);
         }
 
         // Draw nodes
-        for (VizNode n : nodes.values()) {
-            if (n.bounds == null) continue;
-            paintNode(g2, n);
+        for (int row = firstRow; row <= lastRow; row++) {
+            VizNode[] level = snap.levelNodes[row];
+            int startX = levelStartX(snap, row);
+            int first = Math.max(0, Math.floorDiv(clip.x - NODE_WIDTH - startX, COLUMN_STEP) + 1);
+            int last = Math.min(snap.levelSizes[row] - 1, Math.floorDiv(clip.x + clip.width - startX, COLUMN_STEP));
+            for (int i = first; i <= last; i++) {
+                VizNode n = level[i];
+                int x = startX + i * COLUMN_STEP;
+                if (detailed) {
+                    paintNode(g2, n, x, rowY(row));
+                } else {
+                    paintDot(g2, n, x, rowY(row));
+                }
+            }
         }
         g2.dispose();
     }
 
-    private void paintNode(Graphics2D g2, VizNode n) {
-        Rectangle r = n.bounds;
-        Color frame = new Color(60, 100, 160);
-        Color fill = new Color(230, 240, 255);
-        if (initialState != null && n.node.getState().equals(initialState)) {
-            frame = new Color(0, 123, 255);
-            fill = new Color(220, 235, 255);
+    private void paintEdge(Graphics2D g2, Snapshot snap, VizEdge e, Rectangle clip, boolean detailed) {
+        int x1 = nodeX(snap, e.fromDepth, e.fromIndex) + NODE_WIDTH / 2;
+        int y1 = rowY(e.fromDepth) + NODE_HEIGHT;
+        int x2 = nodeX(snap, e.toDepth, e.toIndex) + NODE_WIDTH / 2;
+        int y2 = rowY(e.toDepth);
+        // Bounding box of both endpoints, padded for the curve bulge and the arrow head.
+        int minX = Math.min(x1, x2) - 20;
+        int minY = Math.min(y1, y2) - 20;
+        int maxX = Math.max(x1, x2) + 20;
+        int maxY = Math.max(y1, y2) + 20;
+        if (maxX < clip.x || minX > clip.x + clip.width || maxY < clip.y || minY > clip.y + clip.height) {
+            return;
         }
-        if (goalState != null && n.node.getState().equals(goalState)) {
-            frame = new Color(40, 167, 69);
-            fill = new Color(223, 240, 223);
+        if (!detailed) {
+            g2.drawLine(x1, y1, x2, y2);
+            return;
         }
-        g2.setColor(fill);
-        g2.fillRoundRect(r.x, r.y, r.width, r.height, 10, 10);
-        g2.setColor(frame);
-        g2.drawRoundRect(r.x, r.y, r.width, r.height, 10, 10);
+        int midX = (x1 + x2) / 2;
+        int ctrlOffset = (x2 - x1) / 4;
+        int ctrlY = (y1 + y2) / 2 - 20;
+        java.awt.geom.QuadCurve2D q = new java.awt.geom.QuadCurve2D.Float();
+        q.setCurve(x1, y1, midX + ctrlOffset, ctrlY, x2, y2);
+        g2.draw(q);
+        drawArrowHead(g2, midX + ctrlOffset, ctrlY, x2, y2);
+    }
+
+    private void paintDot(Graphics2D g2, VizNode n, int x, int y) {
+        g2.setColor(frameColorFor(n));
+        g2.fillRect(x + (NODE_WIDTH - DOT_SIZE) / 2, y + (NODE_HEIGHT - DOT_SIZE) / 2, DOT_SIZE, DOT_SIZE);
+    }
+
+    private void paintNode(Graphics2D g2, VizNode n, int x, int y) {
+        g2.setColor(fillColorFor(n));
+        g2.fillRoundRect(x, y, NODE_WIDTH, NODE_HEIGHT, 10, 10);
+        g2.setColor(frameColorFor(n));
+        g2.drawRoundRect(x, y, NODE_WIDTH, NODE_HEIGHT, 10, 10);
 
-        String title = "g=" + n.node.getGCost() + " h=" + n.node.getHCost() + " f=" + n.node.getFCost();
         FontMetrics fm = g2.getFontMetrics();
-        int tx = r.x + 8;
-        int ty = r.y + fm.getAscent() + 6;
-        g2.drawString(title, tx, ty);
-        drawMiniBoard(g2, n.node.getState(), r.x + 8, ty + 8);
+        int tx = x + 8;
+        int ty = y + fm.getAscent() + 6;
+        if (n.store != null) {
+            g2.drawString("collapsed: " + n.store.size + " nodes", tx, ty);
+            g2.drawString("best f=" + n.store.bestF, tx, ty + fm.getHeight());
+            g2.drawString("click to expand", tx, ty + 2 * fm.getHeight());
+            return;
+        }
+        g2.drawString("g=" + n.g + " h=" + n.h + " f=" + (n.g + n.h), tx, ty);
+        g2.drawImage(miniBoardFor(n.state), tx, ty + 8, MINI_BOARD_WIDTH, MINI_BOARD_HEIGHT, null);
+    }
+
+    private Color frameColorFor(VizNode n) {
+        GameState s = n.state;
+        if (s == null) return SUMMARY_FRAME;
+        if (goalState != null && s.equals(goalState)) return GOAL_FRAME;
+        if (initialState != null && s.equals(initialState)) return INITIAL_FRAME;
+        return NODE_FRAME;
+    }
+
+    private Color fillColorFor(VizNode n) {
+        GameState s = n.state;
+        if (s == null) return SUMMARY_FILL;
+        if (goalState != null && s.equals(goalState)) return GOAL_FILL;
+        if (initialState != null && s.equals(initialState)) return INITIAL_FILL;
+        return NODE_FILL;
+    }
+
+    private BufferedImage miniBoardFor(GameState s) {
+        BufferedImage img = miniBoards.get(s);
+        if (img == null) {
+            img = new BufferedImage(MINI_BOARD_WIDTH * MINI_BOARD_RES, MINI_BOARD_HEIGHT * MINI_BOARD_RES,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D ig = img.createGraphics();
+            ig.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            ig.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            ig.setFont(getFont());
+            ig.scale(MINI_BOARD_RES, MINI_BOARD_RES);
+            drawMiniBoard(ig, s, 0, 0);
+            ig.dispose();
+            miniBoards.put(s, img);
+        }
+        return img;
     }
 
     private void drawMiniBoard(Graphics2D g2, GameState s, int x, int y) {
-        int cell = 18;
-        g2.setColor(new Color(180, 180, 180));
+        int cell = MINI_CELL;
+        g2.setColor(GRID_COLOR);
         for (int r = 0; r < 3; r++) {
             for (int c = 0; c < 3; c++) {
                 int cx = x + c * (cell + 2);
@@ -175,19 +804,19 @@ public class StateTreePanel extends JPanel {
                     g2.fillRect(cx + 2, cy + 2, cell - 3, cell - 3);
                     g2.setColor(Color.BLACK);
                     g2.drawString(t.name(), cx + 4, cy + cell - 4);
-                    g2.setColor(new Color(180, 180, 180));
+                    g2.setColor(GRID_COLOR);
                 }
             }
         }
-        g2.setColor(new Color(90, 90, 90));
+        g2.setColor(EDGE_COLOR);
         g2.drawString("next=" + s.getNextTile(), x + 3, y + 3 * (cell + 2) + 14);
     }
 
     private Color colorFor(TileColor t) {
         switch (t) {
-            case R: return new Color(220, 53, 69);
-            case G: return new Color(40, 167, 69);
-            case B: return new Color(0, 123, 255);
+            case R: return TILE_R;
+            case G: return TILE_G;
+            case B: return TILE_B;
             default: return Color.LIGHT_GRAY;
         }
     }
@@ -207,29 +836,133 @@ public class StateTreePanel extends JPanel {
         }
     }
 
-    public synchronized void zoom(double factor) {
-        scale = Math.max(0.5, Math.min(2.0, scale * factor));
+    // EDT only.
+    public void zoom(double factor) {
+        scale = Math.max(0.1, Math.min(2.0, scale * factor));
         relayout();
         repaint();
     }
 
-    private static class VizNode {
-        final Node node;
+    /**
+     * Immutable view of the model for the painter.
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new VizNode[0][], new int[0], new VizEdge[0][], new int[0],
+                new VizEdge[0], 0, 0, 1);
+
+        final VizNode[][] levelNodes;
+        final int[] levelSizes;
+        final VizEdge[][] rowEdges;
+        final int[] rowEdgeSizes;
+        final VizEdge[] longEdges;
+        final int longEdgeCount;
+        final int maxDepth;
+        final int maxPerLevel;
+
+        Snapshot(VizNode[][] levelNodes, int[] levelSizes, VizEdge[][] rowEdges, int[] rowEdgeSizes,
+                 VizEdge[] longEdges, int longEdgeCount, int maxDepth, int maxPerLevel) {
+            this.levelNodes = levelNodes;
+            this.levelSizes = levelSizes;
+            this.rowEdges = rowEdges;
+            this.rowEdgeSizes = rowEdgeSizes;
+            this.longEdges = longEdges;
+            this.longEdgeCount = longEdgeCount;
+            this.maxDepth = maxDepth;
+            this.maxPerLevel = maxPerLevel;
+        }
+    }
+
+    /**
+     * A shown box: a search state with its costs, or a summary of a folded
+     * subtree. The painter reads only the final fields and the store's
+     * volatile totals; the rest belongs to the writer.
+     */
+    private static final class VizNode {
+        final GameState state;
+        final int g;
+        final int h;
+        final CollapsedStore store;
         final int depth;
-        Rectangle bounds;
+        // Writer-side.
+        VizNode parent;
+        List<VizNode> out = new ArrayList<>();
+        VizNode replacement;
+        boolean live = true;
+        int index;
+        int mark;
+        int subtreeSize;
+        int subtreeBestF;
 
-            VizNode(Node node, int depth) {
-            this.node = node;
+        VizNode(GameState state, int g, int h, CollapsedStore store, int depth, VizNode parent) {
+            this.state = state;
+            this.g = g;
+            this.h = h;
+            this.store = store;
             this.depth = depth;
+            this.parent = parent;
+        }
+
+        int bestF() {
+            return store == null ? g + h : store.bestF;
+        }
+    }
+
+    /**
+     * Grid coordinates of an edge's endpoints at the time it was laid out.
+     */
+    private static final class VizEdge {
+        final int fromDepth;
+        final int fromIndex;
+        final int toDepth;
+        final int toIndex;
+
+        VizEdge(int fromDepth, int fromIndex, int toDepth, int toIndex) {
+            this.fromDepth = fromDepth;
+            this.fromIndex = fromIndex;
+            this.toDepth = toDepth;
+            this.toIndex = toIndex;
         }
     }
 
-    private static class VizEdge {
-        final VizNode from;
-        final VizNode to;
-        VizEdge(VizNode from, VizNode to) {
-            this.from = from;
-            this.to = to;
+    /**
+     * The nodes of a folded subtree in pre-order, as packed state keys,
+     * packed g/h (16 bits each) and the slot of each node's parent (-1 for
+     * the top node). Appended to by the writer only.
+     */
+    private static final class CollapsedStore {
+        final int id;
+        int[] states = new int[16];
+        int[] costs = new int[16];
+        int[] parents = new int[16];
+        volatile int size;
+        volatile int bestF = Integer.MAX_VALUE;
+        VizNode summary;
+
+        CollapsedStore(int id) {
+            this.id = id;
+        }
+
+        int add(int state, int g, int h, int parent) {
+            int slot = size;
+            if (slot == states.length) {
+                states = Arrays.copyOf(states, slot * 2);
+                costs = Arrays.copyOf(costs, slot * 2);
+                parents = Arrays.copyOf(parents, slot * 2);
+            }
+            states[slot] = state;
+            costs[slot] = Math.min(g, 0xFFFF) << 16 | Math.min(h, 0xFFFF);
+            parents[slot] = parent;
+            bestF = Math.min(bestF, g + h);
+            size = slot + 1;
+            return slot;
+        }
+
+        int g(int slot) {
+            return costs[slot] >>> 16;
+        }
+
+        int h(int slot) {
+            return costs[slot] & 0xFFFF;
         }
     }
 }
@@ -7,6 +7,11 @@ import java.util.Objects;
 /**
  * Represents a configuration of the puzzle:
  * positions of R, G, B, and whose turn it is to move next.
+ *
+ * The turn is stored both as the tile to move and as an index into the turn
+ * order of the {@link MoveRules} in use, since variants may repeat a tile in
+ * their turn order. For the standard R -> G -> B order the index is simply the
+ * tile's ordinal.
  */
 public final class GameState {
 
@@ -14,17 +19,25 @@ public final class GameState {
     private final Position gPos;
     private final Position bPos;
     private final TileColor nextTile;
+    private final int turnIndex;
 
-    // Directions: N, S, W, E, and 4 diagonals.
-    private static final int[][] DIRECTIONS = {
-            {-1, 0}, {1, 0}, {0, -1}, {0, 1},
-            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
-    };
-
+    /**
+     * State for the standard R -> G -> B turn order.
+     */
     public GameState(Position rPos, Position gPos, Position bPos, TileColor nextTile) {
+        this(rPos, gPos, bPos, nextTile, nextTile == null ? 0 : nextTile.ordinal());
+    }
+
+    /**
+     * @param turnIndex position of nextTile in the turn order of the rules in use
+     */
+    public GameState(Position rPos, Position gPos, Position bPos, TileColor nextTile, int turnIndex) {
         if (rPos == null || gPos == null || bPos == null || nextTile == null) {
             throw new IllegalArgumentException("Positions and nextTile must not be null");
         }
+        if (turnIndex < 0) {
+            throw new IllegalArgumentException("Turn index must not be negative");
+        }
         // Just to be safe, makes sure tiles are not stacked on the same cell.
         if (rPos.equals(gPos) || rPos.equals(bPos) || gPos.equals(bPos)) {
             throw new IllegalArgumentException("Tiles cannot occupy the same cell");
@@ -33,6 +46,7 @@ public final class GameState {
         this.gPos = gPos;
         this.bPos = bPos;
         this.nextTile = nextTile;
+        this.turnIndex = turnIndex;
     }
 
     public Position getRPos() {
@@ -51,6 +65,10 @@ public final class GameState {
         return nextTile;
     }
 
+    public int getTurnIndex() {
+        return turnIndex;
+    }
+
 
     public TileColor getTileAt(int row, int col) {
         Position p = new Position(row, col);
@@ -69,21 +87,15 @@ public final class GameState {
                 && bPos.equals(goal.bPos);
     }
 
-    private boolean isOccupied(Position pos) {
-        return pos.equals(rPos) || pos.equals(gPos) || pos.equals(bPos);
+    /**
+     * Checks if this state satisfies a goal pattern.
+     */
+    public boolean isGoal(GoalPattern goal) {
+        return goal.matches(this);
     }
 
-    private static TileColor nextTurn(TileColor current) {
-        // Requirement 4: this is where I enforce the R -> G -> B -> R turn order.
-        switch (current) {
-            case R:
-                return TileColor.G;
-            case G:
-                return TileColor.B;
-            case B:
-            default:
-                return TileColor.R;
-        }
+    private boolean isOccupied(Position pos) {
+        return pos.equals(rPos) || pos.equals(gPos) || pos.equals(bPos);
     }
 
     private Position getPositionFor(TileColor tile) {
@@ -98,7 +110,7 @@ public final class GameState {
         }
     }
 
-    private GameState moveTile(TileColor tile, Position newPos) {
+    private GameState moveTile(TileColor tile, Position newPos, MoveRules rules) {
         // Create a fresh state with that tile moved and nextTile advanced.
         Position newR = rPos;
         Position newG = gPos;
@@ -116,8 +128,9 @@ public final class GameState {
                 break;
         }
 
-        TileColor next = nextTurn(tile);
-        return new GameState(newR, newG, newB, next);
+        // Requirement 4: the turn order (R -> G -> B -> R by default) comes from the rules.
+        int next = rules.nextTurn(turnIndex);
+        return new GameState(newR, newG, newB, rules.tileForTurn(next), next);
     }
 
     /**
@@ -128,23 +141,88 @@ public final class GameState {
      * Requirement 4: only the tile indicated by nextTile is allowed to move.
      */
     public List<GameState> generateSuccessors() {
+        return generateSuccessors(MoveRules.standard());
+    }
+
+    /**
+     * Successors under the given variant rules. Each ray of the compiled move
+     * table is followed until it leaves the board or hits an occupied cell.
+     */
+    public List<GameState> generateSuccessors(MoveRules rules) {
+        if (turnIndex >= rules.turnCount() || rules.tileForTurn(turnIndex) != nextTile) {
+            throw new IllegalArgumentException("State turn " + turnIndex + "/" + nextTile
+                    + " does not match the turn order of " + rules);
+        }
         List<GameState> successors = new ArrayList<>();
         Position currentPos = getPositionFor(nextTile);
 
-        for (int[] dir : DIRECTIONS) {
-            Position candidate = currentPos.translate(dir[0], dir[1]);
-            if (!candidate.isInsideBoard()) {
-                continue;
+        for (int[] ray : rules.raysFrom(currentPos.getRow() * 3 + currentPos.getCol())) {
+            for (int target : ray) {
+                Position candidate = new Position(target / 3, target % 3);
+                if (isOccupied(candidate)) {
+                    break;
+                }
+                GameState succ = moveTile(nextTile, candidate, rules);
+                // Different rays can reach the same cell when moves wrap around.
+                if (!successors.contains(succ)) {
+                    successors.add(succ);
+                }
             }
-            if (isOccupied(candidate)) {
-                continue;
-            }
-            successors.add(moveTile(nextTile, candidate));
         }
 
         return successors;
     }
 
+    /**
+     * Row-major board with one character per cell, e.g. {@code "R.G..B..."}.
+     */
+    public String toBoardString() {
+        StringBuilder sb = new StringBuilder(9);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                TileColor t = getTileAt(row, col);
+                sb.append(t == null ? '.' : t.name().charAt(0));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses a board written as by {@link #toBoardString()} ('/' separators
+     * between rows are allowed), with the first tile of the rules' turn order to move.
+     *
+     * @throws IllegalArgumentException when the board is malformed or lacks exactly one R, G and B
+     */
+    public static GameState fromBoardString(String board, MoveRules rules) {
+        String cells = board.replace("/", "");
+        if (cells.length() != 9) {
+            throw new IllegalArgumentException("Board must have 9 cells: '" + board + "'");
+        }
+        Position[] found = new Position[TileColor.values().length];
+        for (int i = 0; i < 9; i++) {
+            char c = Character.toUpperCase(cells.charAt(i));
+            if (c == '.') {
+                continue;
+            }
+            TileColor t;
+            try {
+                t = TileColor.valueOf(String.valueOf(c));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unexpected '" + c + "' in board '" + board + "'");
+            }
+            if (found[t.ordinal()] != null) {
+                throw new IllegalArgumentException("There can only be one " + t + " in board '" + board + "'");
+            }
+            found[t.ordinal()] = new Position(i / 3, i % 3);
+        }
+        for (Position p : found) {
+            if (p == null) {
+                throw new IllegalArgumentException("Board needs exactly one R, one G and one B: '" + board + "'");
+            }
+        }
+        return rules.initialState(found[0], found[1], found[2]);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -153,12 +231,13 @@ public final class GameState {
         return Objects.equals(rPos, gameState.rPos)
                 && Objects.equals(gPos, gameState.gPos)
                 && Objects.equals(bPos, gameState.bPos)
-                && nextTile == gameState.nextTile;
+                && nextTile == gameState.nextTile
+                && turnIndex == gameState.turnIndex;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rPos, gPos, bPos, nextTile);
+        return Objects.hash(rPos, gPos, bPos, nextTile, turnIndex);
     }
 
     @Override
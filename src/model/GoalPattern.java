@@ -0,0 +1,170 @@
+package model;
+
+/**
+ * A goal that constrains each tile to a set of cells rather than one exact
+ * position, e.g. "R anywhere in the top row, B in a corner, G anywhere".
+ *
+ * Each tile's set is a 9-bit mask over the cells (bit row * 3 + col), and the
+ * three masks are packed side by side (R in bits 0-8, G in 9-17, B in 18-26).
+ * A placement is packed the same way, with one bit per tile, so matching is a
+ * single AND against the inverted pattern.
+ *
+ * Patterns are immutable; the {@code with...} methods return modified copies.
+ */
+public final class GoalPattern {
+
+    /** Every cell. */
+    public static final int ANY_CELL = 0x1FF;
+    /** The four corner cells. */
+    public static final int CORNERS = 1 | 1 << 2 | 1 << 6 | 1 << 8;
+
+    private static final int CELLS = 9;
+
+    private final int bits;
+
+    private GoalPattern(int bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * No constraint on any tile; every placement matches.
+     */
+    public static GoalPattern any() {
+        return new GoalPattern(ANY_CELL | ANY_CELL << CELLS | ANY_CELL << 2 * CELLS);
+    }
+
+    /**
+     * Exactly the positions of the given state, as {@link GameState#isGoal} checks them.
+     */
+    public static GoalPattern exact(GameState goal) {
+        return new GoalPattern(placementBits(cellOf(goal.getRPos()), cellOf(goal.getGPos()), cellOf(goal.getBPos())));
+    }
+
+    public static int rowMask(int row) {
+        checkIndex(row);
+        return 7 << row * 3;
+    }
+
+    public static int columnMask(int col) {
+        checkIndex(col);
+        return (1 | 1 << 3 | 1 << 6) << col;
+    }
+
+    public static int cellMask(Position... cells) {
+        int mask = 0;
+        for (Position p : cells) {
+            if (!p.isInsideBoard()) {
+                throw new IllegalArgumentException("Position " + p + " is off the board");
+            }
+            mask |= 1 << cellOf(p);
+        }
+        return mask;
+    }
+
+    /**
+     * Copy of this pattern in which {@code tile} may stand on any cell of {@code mask}.
+     *
+     * @throws IllegalArgumentException if the mask is empty or has bits beyond the 9 cells
+     */
+    public GoalPattern withMask(TileColor tile, int mask) {
+        if (mask == 0 || (mask & ~ANY_CELL) != 0) {
+            throw new IllegalArgumentException("Cell mask for " + tile + " must be a non-empty subset of 0x1FF, got 0x"
+                    + Integer.toHexString(mask));
+        }
+        int shift = tile.ordinal() * CELLS;
+        return new GoalPattern(bits & ~(ANY_CELL << shift) | mask << shift);
+    }
+
+    public GoalPattern withCells(TileColor tile, Position... cells) {
+        return withMask(tile, cellMask(cells));
+    }
+
+    /**
+     * The 9-bit mask of cells allowed for {@code tile}.
+     */
+    public int mask(TileColor tile) {
+        return bits >>> tile.ordinal() * CELLS & ANY_CELL;
+    }
+
+    /**
+     * The three masks packed as described in the class comment.
+     */
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * Whether every tile's mask allows exactly one cell.
+     */
+    public boolean isExact() {
+        for (TileColor tile : TileColor.values()) {
+            if (Integer.bitCount(mask(tile)) != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean matches(GameState state) {
+        return matchesCells(cellOf(state.getRPos()), cellOf(state.getGPos()), cellOf(state.getBPos()));
+    }
+
+    /**
+     * Same check on cell indices (row * 3 + col).
+     */
+    public boolean matchesCells(int r, int g, int b) {
+        return (placementBits(r, g, b) & ~bits) == 0;
+    }
+
+    /**
+     * A placement packed with one bit per tile, in the layout of {@link #bits}.
+     */
+    public static int placementBits(int r, int g, int b) {
+        return 1 << r | 1 << CELLS + g | 1 << 2 * CELLS + b;
+    }
+
+    private static int cellOf(Position p) {
+        return p.getRow() * 3 + p.getCol();
+    }
+
+    private static void checkIndex(int i) {
+        if (i < 0 || i >= 3) {
+            throw new IllegalArgumentException("Row or column must be 0, 1 or 2, got " + i);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GoalPattern && ((GoalPattern) o).bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (TileColor tile : TileColor.values()) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(tile).append('{');
+            int mask = mask(tile);
+            if (mask == ANY_CELL) {
+                sb.append("any");
+            } else {
+                String sep = "";
+                for (int c = 0; c < CELLS; c++) {
+                    if ((mask & 1 << c) != 0) {
+                        sb.append(sep).append('(').append(c / 3).append(',').append(c % 3).append(')');
+                        sep = " ";
+                    }
+                }
+            }
+            sb.append('}');
+        }
+        return sb.toString();
+    }
+}
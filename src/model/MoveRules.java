@@ -0,0 +1,250 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Movement rules for a game variant: how a tile may move, the order in which
+ * tiles take turns, and whether moves wrap around the board edges.
+ *
+ * The rules are compiled once into per-cell move tables. Every move type is
+ * expressed as a list of rays: a tile may stop on any cell of a ray up to the
+ * first occupied one. Single-step moves (neighbours, knight jumps) are rays of
+ * length one and sliding moves are rays running to the edge, so move
+ * generation walks the same table whatever the move type is.
+ */
+public final class MoveRules {
+
+    public enum MoveType {
+        /** One step N, S, W or E. */
+        FOUR_NEIGHBOUR,
+        /** One step in any of the 8 directions (the original game). */
+        EIGHT_NEIGHBOUR,
+        /** Chess knight jumps; cells in between are ignored. */
+        KNIGHT,
+        /** Any distance in one of the 8 directions, stopping before the first occupied cell. */
+        SLIDING
+    }
+
+    private static final int SIZE = 3;
+
+    private static final int[][] ORTHOGONAL = {
+            {-1, 0}, {1, 0}, {0, -1}, {0, 1}
+    };
+    // Directions: N, S, W, E, and 4 diagonals.
+    private static final int[][] ALL_DIRECTIONS = {
+            {-1, 0}, {1, 0}, {0, -1}, {0, 1},
+            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+    private static final int[][] KNIGHT_JUMPS = {
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2},
+            {1, -2}, {1, 2}, {2, -1}, {2, 1}
+    };
+
+    // Requirement 4: the original game enforces the R -> G -> B -> R turn order.
+    private static final MoveRules STANDARD = new MoveRules(MoveType.EIGHT_NEIGHBOUR,
+            Arrays.asList(TileColor.R, TileColor.G, TileColor.B), false);
+
+    private final MoveType moveType;
+    private final TileColor[] turnOrder;
+    private final boolean wraparound;
+    private final int[][][] rays;
+
+    /**
+     * @param moveType   how the tile whose turn it is may move
+     * @param turnOrder  repeating sequence of tiles to move; tiles may repeat or be left out
+     * @param wraparound whether moves leaving one edge re-enter on the opposite edge
+     */
+    public MoveRules(MoveType moveType, List<TileColor> turnOrder, boolean wraparound) {
+        if (moveType == null || turnOrder == null || turnOrder.isEmpty() || turnOrder.contains(null)) {
+            throw new IllegalArgumentException("Move type and a non-empty turn order are required");
+        }
+        this.moveType = moveType;
+        this.turnOrder = turnOrder.toArray(new TileColor[0]);
+        this.wraparound = wraparound;
+        this.rays = new int[SIZE * SIZE][][];
+        for (int cell = 0; cell < SIZE * SIZE; cell++) {
+            rays[cell] = compileRays(cell);
+        }
+    }
+
+    public static MoveRules standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Parses a compact rules spec {@code <moves>:<turns>[:wrap]}, e.g.
+     * {@code eight:RGB}, {@code knight:RRGB} or {@code four:RB:wrap}. Move
+     * names are four, eight, knight and sliding.
+     *
+     * @throws IllegalArgumentException when the spec is malformed
+     */
+    public static MoveRules parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        if (parts.length < 2 || parts.length > 3 || (parts.length == 3 && !"wrap".equalsIgnoreCase(parts[2]))) {
+            throw new IllegalArgumentException("Expected <moves>:<turns>[:wrap], got '" + spec + "'");
+        }
+        MoveType type;
+        switch (parts[0].toLowerCase(Locale.ROOT)) {
+            case "four":
+                type = MoveType.FOUR_NEIGHBOUR;
+                break;
+            case "eight":
+                type = MoveType.EIGHT_NEIGHBOUR;
+                break;
+            case "knight":
+                type = MoveType.KNIGHT;
+                break;
+            case "sliding":
+                type = MoveType.SLIDING;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown move type '" + parts[0] + "'");
+        }
+        List<TileColor> turns = new ArrayList<>();
+        for (char c : parts[1].toUpperCase(Locale.ROOT).toCharArray()) {
+            turns.add(TileColor.valueOf(String.valueOf(c)));
+        }
+        return new MoveRules(type, turns, parts.length == 3);
+    }
+
+    public MoveType getMoveType() {
+        return moveType;
+    }
+
+    public boolean isWraparound() {
+        return wraparound;
+    }
+
+    public int turnCount() {
+        return turnOrder.length;
+    }
+
+    public TileColor tileForTurn(int turnIndex) {
+        return turnOrder[turnIndex];
+    }
+
+    public int nextTurn(int turnIndex) {
+        return turnIndex + 1 == turnOrder.length ? 0 : turnIndex + 1;
+    }
+
+    /**
+     * Rays of target cells (row * 3 + col) reachable from the given cell on an
+     * empty board. Shared arrays; callers must not modify them.
+     */
+    public int[][] raysFrom(int cell) {
+        return rays[cell];
+    }
+
+    /**
+     * A state with the given placement and the first tile of the turn order to move.
+     */
+    public GameState initialState(Position rPos, Position gPos, Position bPos) {
+        return new GameState(rPos, gPos, bPos, turnOrder[0], 0);
+    }
+
+    private int[][] compileRays(int cell) {
+        int row = cell / SIZE;
+        int col = cell % SIZE;
+        int[][] directions;
+        switch (moveType) {
+            case FOUR_NEIGHBOUR:
+                directions = ORTHOGONAL;
+                break;
+            case KNIGHT:
+                directions = KNIGHT_JUMPS;
+                break;
+            case EIGHT_NEIGHBOUR:
+            case SLIDING:
+            default:
+                directions = ALL_DIRECTIONS;
+                break;
+        }
+        boolean sliding = moveType == MoveType.SLIDING;
+        List<int[]> result = new ArrayList<>();
+        boolean[] stepTargets = new boolean[SIZE * SIZE];
+        for (int[] dir : directions) {
+            List<Integer> ray = new ArrayList<>();
+            int r = row;
+            int c = col;
+            while (true) {
+                r += dir[0];
+                c += dir[1];
+                if (wraparound) {
+                    r = Math.floorMod(r, SIZE);
+                    c = Math.floorMod(c, SIZE);
+                } else if (r < 0 || r >= SIZE || c < 0 || c >= SIZE) {
+                    break;
+                }
+                int target = r * SIZE + c;
+                if (target == cell || ray.contains(target)) {
+                    break;
+                }
+                ray.add(target);
+                if (!sliding) {
+                    break;
+                }
+            }
+            // With wraparound two single-step directions can land on the same cell.
+            if (!sliding && ray.size() == 1) {
+                if (stepTargets[ray.get(0)]) {
+                    continue;
+                }
+                stepTargets[ray.get(0)] = true;
+            }
+            if (!ray.isEmpty()) {
+                int[] cells = new int[ray.size()];
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = ray.get(i);
+                }
+                result.add(cells);
+            }
+        }
+        return result.toArray(new int[0][]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MoveRules)) return false;
+        MoveRules other = (MoveRules) o;
+        return moveType == other.moveType
+                && wraparound == other.wraparound
+                && Arrays.equals(turnOrder, other.turnOrder);
+    }
+
+    @Override
+    public int hashCode() {
+        return (moveType.hashCode() * 31 + Arrays.hashCode(turnOrder)) * 31 + (wraparound ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        switch (moveType) {
+            case FOUR_NEIGHBOUR:
+                sb.append("four");
+                break;
+            case EIGHT_NEIGHBOUR:
+                sb.append("eight");
+                break;
+            case KNIGHT:
+                sb.append("knight");
+                break;
+            case SLIDING:
+            default:
+                sb.append("sliding");
+                break;
+        }
+        sb.append(':');
+        for (TileColor t : turnOrder) {
+            sb.append(t.name());
+        }
+        if (wraparound) {
+            sb.append(":wrap");
+        }
+        return sb.toString();
+    }
+}
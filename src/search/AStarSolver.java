@@ -1,6 +1,8 @@
 package search;
 
 import model.GameState;
+import model.GoalPattern;
+import model.MoveRules;
 
 import java.util.*;
 
@@ -9,9 +11,15 @@ import java.util.*;
  */
 public class AStarSolver {
 
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
     private final GameState initial;
-    private final GameState goal;
+    private final GoalPattern goal;
     private final int maxDepth;
+    private final MoveRules rules;
+    private VisitedStore.Kind visitedStore = VisitedStore.Kind.HEAP;
+    private Heuristics.Kind heuristic = Heuristics.Kind.HAMMING;
+    private boolean bounded;
 
     /**
      * @param initial starting state
@@ -19,15 +27,68 @@ public class AStarSolver {
      * @param maxDepth max number of moves (hard limit 10)
      */
     public AStarSolver(GameState initial, GameState goal, int maxDepth) {
+        this(initial, goal, maxDepth, MoveRules.standard());
+    }
+
+    /**
+     * @param rules movement and turn-order variant; the initial state's turn must follow it
+     */
+    public AStarSolver(GameState initial, GameState goal, int maxDepth, MoveRules rules) {
+        this(initial, GoalPattern.exact(goal), maxDepth, rules);
+    }
+
+    /**
+     * Searches for the nearest state matching a goal pattern, so one search
+     * covers every placement the pattern allows. Both heuristics use, per
+     * tile, the distance to the closest allowed cell.
+     */
+    public AStarSolver(GameState initial, GoalPattern goal, int maxDepth, MoveRules rules) {
         this.initial = initial;
         this.goal = goal;
         this.maxDepth = maxDepth;
+        this.rules = rules;
     }
 
     public AStarSolver(GameState initial, GameState goal) {
         this(initial, goal, 10);
     }
 
+    /**
+     * Bounded-cost mode: before searching, cheap lower bounds are checked
+     * against maxDepth and an infeasible instance is rejected at once; during
+     * the search no node whose turn-aware f exceeds maxDepth is queued. An
+     * unsolved result then carries an {@link Infeasibility} reason.
+     */
+    public void setBounded(boolean bounded) {
+        this.bounded = bounded;
+    }
+
+    /**
+     * Heuristic used to order the open list; {@link Heuristics.Kind#HAMMING} by default.
+     */
+    public void setHeuristic(Heuristics.Kind kind) {
+        this.heuristic = kind;
+    }
+
+    /**
+     * Where the per-state best g values are kept; {@link VisitedStore.Kind#HEAP} by default.
+     *
+     * @throws IllegalArgumentException for {@link VisitedStore.Kind#PACKED_OFF_HEAP} when a
+     *                                  g as large as this solver's move limit does not fit in a packed slot
+     */
+    public void setVisitedStore(VisitedStore.Kind kind) {
+        if (kind == VisitedStore.Kind.PACKED_OFF_HEAP && maxG() > PackedVisitedStore.MAX_G) {
+            throw new IllegalArgumentException("A packed visited store holds g up to " + PackedVisitedStore.MAX_G
+                    + ", but the move limit is " + maxDepth + "; use HASH_OFF_HEAP or HEAP");
+        }
+        this.visitedStore = kind;
+    }
+
+    // g never exceeds maxDepth, nor the number of states on a shortest path.
+    private int maxG() {
+        return Math.min(maxDepth, StateSpace.of(rules).stateCount());
+    }
+
     /**
      * Requirement 3: This is the A* implementation, using the Hamming distance
      * as our heuristic.
@@ -39,70 +100,205 @@ public class AStarSolver {
      * show the chosen state and its alternative successors.
      */
     public SearchResult solve(SearchListener listener) {
-        PriorityQueue<Node> open = new PriorityQueue<>();
-        Map<GameState, Integer> bestG = new HashMap<>();
-        Set<GameState> closed = new HashSet<>();
+        return solve(listener, SearchBudget.unlimited());
+    }
 
-        int h0 = Heuristics.hamming(initial, goal);
-        Node start = new Node(initial, null, 0, h0);
-        open.add(start);
-        bestG.put(initial, 0);
+    /**
+     * Same search, stopped early once any limit of the budget is reached. The
+     * counters are checked on every expansion; the clock and the cancellation
+     * token every {@value #CLOCK_CHECK_INTERVAL} iterations.
+     */
+    public SearchResult solve(SearchListener listener, SearchBudget budget) {
+        SearchResult result = search(listener, budget, false);
+        SolverMetrics.global().record(result);
+        return result;
+    }
+
+    /**
+     * Same search, not recorded into {@link SolverMetrics}; see {@link SearchEngine#solveUnrecorded}.
+     */
+    SearchResult solveUnrecorded(SearchListener listener, SearchBudget budget) {
+        return search(listener, budget, false);
+    }
+
+    /**
+     * Finds every optimal solution instead of one. The search keeps all
+     * equal-cost parent links and keeps expanding until no open node can lead
+     * to a cheaper-or-equal goal, then returns a result whose
+     * {@link SearchResult#getSolutionDag()} holds the optimal-solution DAG.
+     * If the budget runs out first, no DAG is returned.
+     */
+    public SearchResult solveAllOptimal(SearchListener listener, SearchBudget budget) {
+        SearchResult result = search(listener, budget, true);
+        SolverMetrics.global().record(result);
+        return result;
+    }
+
+    private SearchResult search(SearchListener listener, SearchBudget budget, boolean allOptimal) {
+        long startNanos = System.nanoTime();
+        long iterations = 0;
+        long expanded = 0;
+        int peakOpen = 1;
+        StateSpace space = StateSpace.of(rules);
+        NodeArena arena = new NodeArena();
+        OpenList open = new OpenList(arena);
+        VisitedStore bestG = VisitedStore.create(visitedStore, space.stateCount(), maxG());
+        // Node objects are only built for the listener; the search itself runs on arena indices.
+        List<Node> views = listener != null ? new ArrayList<>() : null;
+        SolutionDag.Links links = allOptimal ? new SolutionDag.Links(space.stateCount()) : null;
+        int optimalCost = -1;
+        int firstGoal = -1;
+        List<Integer> goalIds = new ArrayList<>();
+
+        TurnAwareHeuristic turnAware = heuristic == Heuristics.Kind.TURN_AWARE ? TurnAwareHeuristic.of(rules) : null;
+
+        int startId = space.encode(initial);
+        TurnAwareHeuristic lowerBound = null;
+        // Per tile and cell: moves to the nearest allowed cell, for the turn-aware estimates.
+        int[][] toGoal = null;
+        if (turnAware != null || bounded) {
+            toGoal = TurnAwareHeuristic.of(rules).distancesTo(goal);
+        }
+        if (bounded) {
+            lowerBound = turnAware != null ? turnAware : TurnAwareHeuristic.of(rules);
+            Infeasibility proof = Infeasibility.check(space, lowerBound, startId, goal, toGoal, maxDepth);
+            if (proof != null) {
+                SearchStats stats = new SearchStats(0, 0, 0, System.nanoTime() - startNanos);
+                return new SearchResult(false, Collections.emptyList(), proof.toString(), stats)
+                        .withInfeasibility(proof);
+            }
+        }
+        int h0 = estimate(turnAware, toGoal, space, startId, goal);
+        open.add(addNode(arena, views, space, startId, NodeArena.NO_PARENT, 0, h0));
+        bestG.put(startId, 0);
 
         while (!open.isEmpty()) {
-            Node current = open.poll();
+            if (optimalCost >= 0 && arena.f(open.peek()) > optimalCost) {
+                // Every remaining node costs more than the optimum.
+                break;
+            }
+            int current = open.poll();
+            int stateId = arena.stateId(current);
 
-            if (closed.contains(current.getState())) {
+            int g = arena.g(current);
+            if (g != bestG.get(stateId)) {
+                // Stale entry: the state was re-queued with a lower g. A state is
+                // only queued when its g strictly improves, and the heuristic is
+                // consistent, so each state is popped at its best g exactly once.
                 continue;
             }
-            closed.add(current.getState());
 
-            if (current.getState().isGoal(goal)) {
-                List<GameState> path = reconstructPath(current);
-                String msg = "Goal found in " + current.getGCost() + " move(s).";
-                return new SearchResult(true, path, msg);
+            if (goal.matchesCells(space.rCell(stateId), space.gCell(stateId), space.bCell(stateId))) {
+                if (!allOptimal) {
+                    List<GameState> path = reconstructPath(arena, space, current);
+                    String msg = "Goal found in " + g + " move(s).";
+                    SearchStats stats = new SearchStats(expanded, arena.size(), peakOpen, System.nanoTime() - startNanos);
+                    return new SearchResult(true, path, msg, stats);
+                }
+                if (optimalCost < 0) {
+                    optimalCost = g;
+                    firstGoal = current;
+                }
+                // Goals are never expanded: any path through one is longer than the optimum.
+                goalIds.add(stateId);
+                continue;
             }
 
             // Requirement 5: depth / move limit (10).
-            if (current.getGCost() >= maxDepth) {
+            if (g >= maxDepth) {
                 // We reached the cap for this branch, don't expand it further.
                 // We'll keep going with other nodes still in the queue (if any).
                 continue;
             }
 
-            List<GameState> succStates = current.getState().generateSuccessors();
-            List<Node> successors = new ArrayList<>();
+            // The budget limits expansions, so it is checked only once the node is
+            // known not to be a goal: a goal popped right at the limit is still found.
+            SearchBudget.Limit hit = null;
+            if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                hit = budget.checkClock(startNanos);
+            }
+            if (expanded >= budget.getMaxExpansions()) {
+                hit = SearchBudget.Limit.EXPANSIONS;
+            } else if (arena.size() >= budget.getMaxNodes()) {
+                hit = SearchBudget.Limit.NODES;
+            }
+            if (hit != null) {
+                return SearchResult.budgetExhausted(hit,
+                        new SearchStats(expanded, arena.size(), peakOpen, System.nanoTime() - startNanos));
+            }
 
-            for (GameState succState : succStates) {
-                int tentativeG = current.getGCost() + 1;
-                Integer knownBest = bestG.get(succState);
+            expanded++;
+            List<Node> successors = listener != null ? new ArrayList<>() : null;
+            int tentativeG = g + 1;
 
-                if (knownBest != null && knownBest <= tentativeG) {
+            for (int succId : space.successors(stateId)) {
+                if (lowerBound != null
+                        && tentativeG + lowerBound.estimate(space, succId, toGoal) > maxDepth) {
+                    // Cannot reach the goal within the bound: never queued.
+                    continue;
+                }
+                int known = bestG.get(succId);
+                if (known <= tentativeG) {
                     // We already have an equal or better path to this state.
+                    if (links != null && known == tentativeG) {
+                        links.add(succId, stateId);
+                    }
                     continue;
                 }
+                if (links != null) {
+                    links.reset(succId, stateId);
+                }
 
-                int h = Heuristics.hamming(succState, goal);
-                Node succNode = new Node(succState, current, tentativeG, h);
-                bestG.put(succState, tentativeG);
-                open.add(succNode);
-                successors.add(succNode);
+                int h = estimate(turnAware, toGoal, space, succId, goal);
+                int succ = addNode(arena, views, space, succId, current, tentativeG, h);
+                bestG.put(succId, tentativeG);
+                open.add(succ);
+                peakOpen = Math.max(peakOpen, open.size());
+                if (successors != null) {
+                    successors.add(views.get(succ));
+                }
             }
 
             if (listener != null) {
-                listener.onNodeExpanded(current, successors);
+                listener.onNodeExpanded(views.get(current), successors);
             }
         }
 
+        SearchStats stats = new SearchStats(expanded, arena.size(), peakOpen, System.nanoTime() - startNanos);
+        if (optimalCost >= 0) {
+            SolutionDag dag = SolutionDag.build(space, links, startId, goalIds, optimalCost);
+            String msg = "Goal found in " + optimalCost + " move(s); " + dag.countPaths()
+                    + " optimal move sequence(s).";
+            return new SearchResult(true, reconstructPath(arena, space, firstGoal), msg, stats).withSolutionDag(dag);
+        }
         String msg = "No solution found within " + maxDepth + " moves from the initial state.";
-        return new SearchResult(false, Collections.emptyList(), msg);
+        SearchResult result = new SearchResult(false, Collections.emptyList(), msg, stats);
+        return bounded ? result.withInfeasibility(Infeasibility.searchExhausted(maxDepth)) : result;
+    }
+
+    private static int estimate(TurnAwareHeuristic turnAware, int[][] toGoal, StateSpace space, int stateId,
+                                GoalPattern goal) {
+        if (turnAware != null) {
+            return turnAware.estimate(space, stateId, toGoal);
+        }
+        return Heuristics.hamming(space, stateId, goal);
+    }
+
+    private int addNode(NodeArena arena, List<Node> views, StateSpace space, int stateId, int parent, int g, int h) {
+        int index = arena.add(stateId, parent, g, h);
+        if (views != null) {
+            Node parentView = parent == NodeArena.NO_PARENT ? null : views.get(parent);
+            views.add(new Node(space.decode(stateId), parentView, g, h));
+        }
+        return index;
     }
 
-    private List<GameState> reconstructPath(Node goalNode) {
+    private List<GameState> reconstructPath(NodeArena arena, StateSpace space, int goalIndex) {
         List<GameState> reversed = new ArrayList<>();
-        Node current = goalNode;
-        while (current != null) {
-            reversed.add(current.getState());
-            current = current.getParent();
+        int current = goalIndex;
+        while (current != NodeArena.NO_PARENT) {
+            reversed.add(space.decode(arena.stateId(current)));
+            current = arena.parent(current);
         }
         Collections.reverse(reversed);
         return reversed;
@@ -0,0 +1,68 @@
+package search;
+
+/**
+ * Heuristics evaluated for many states at once, over packed arrays holding
+ * the cell index (row * 3 + col) of each tile: {@code r[i]}, {@code g[i]} and
+ * {@code b[i]} describe state i.
+ *
+ * {@link #best()} returns a SIMD implementation built on the incubating
+ * {@code jdk.incubator.vector} module when it was compiled (from the separate
+ * {@code src-vector} root) and the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and a scalar one otherwise.
+ * Both give identical results.
+ */
+public interface BatchHeuristics {
+
+    /**
+     * Number of tiles not on their goal cell, for states 0..count-1.
+     */
+    void hamming(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out);
+
+    /**
+     * Sum over the tiles of the Chebyshev (king-move) distance to the goal
+     * cell. Under the standard rules each ply moves one tile one king step, so
+     * this sum never overestimates the remaining moves.
+     */
+    void chebyshev(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out);
+
+    String getName();
+
+    static BatchHeuristics best() {
+        return Holder.BEST;
+    }
+
+    static BatchHeuristics scalar() {
+        return ScalarBatchHeuristics.INSTANCE;
+    }
+
+    /**
+     * Unpacks state ids into the per-tile cell arrays used by the batch methods.
+     */
+    static void unpack(StateSpace space, int[] ids, int count, int[] r, int[] g, int[] b) {
+        for (int i = 0; i < count; i++) {
+            r[i] = space.rCell(ids[i]);
+            g[i] = space.gCell(ids[i]);
+            b[i] = space.bCell(ids[i]);
+        }
+    }
+
+    final class Holder {
+        static final BatchHeuristics BEST = load();
+
+        private Holder() {
+        }
+
+        private static BatchHeuristics load() {
+            if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                return ScalarBatchHeuristics.INSTANCE;
+            }
+            try {
+                // Loaded reflectively: the class is built separately and may be missing from the class path.
+                return (BatchHeuristics) Class.forName("search.VectorBatchHeuristics")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                return ScalarBatchHeuristics.INSTANCE;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bidirectional breadth-first search: one frontier grows from the start over
+ * successors, the other from the goal states (the goal placement with any
+ * turn) over {@link StateSpace#predecessors}. The smaller frontier is
+ * expanded one full layer at a time; the first layer that touches the other
+ * side yields the optimal cost, taken as the cheapest meeting state found in
+ * that layer.
+ */
+public final class BidirectionalSolver implements SearchEngine {
+
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final int UNSEEN = -1;
+
+    private final MoveRules rules;
+
+    public BidirectionalSolver() {
+        this(MoveRules.standard());
+    }
+
+    public BidirectionalSolver(MoveRules rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public String getName() {
+        return "bidirectional";
+    }
+
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        return search(initial, goal, maxDepth, budget);
+    }
+
+    private SearchResult search(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        long startNanos = System.nanoTime();
+        StateSpace space = StateSpace.of(rules);
+        int count = space.stateCount();
+        int[] distF = new int[count];
+        int[] distB = new int[count];
+        // parentF points back towards the start, nextB onwards towards a goal.
+        int[] parentF = new int[count];
+        int[] nextB = new int[count];
+        Arrays.fill(distF, UNSEEN);
+        Arrays.fill(distB, UNSEEN);
+
+        int startId = space.encode(initial);
+        int[] frontF = {startId};
+        int sizeF = 1;
+        distF[startId] = 0;
+        parentF[startId] = UNSEEN;
+
+        int goalR = StateSpace.cellOf(goal.getRPos());
+        int goalG = StateSpace.cellOf(goal.getGPos());
+        int goalB = StateSpace.cellOf(goal.getBPos());
+        int turns = rules.turnCount();
+        int[] frontB = new int[turns];
+        int sizeB = 0;
+        for (int t = 0; t < turns; t++) {
+            int id = space.idOf(goalR, goalG, goalB, t);
+            distB[id] = 0;
+            nextB[id] = UNSEEN;
+            frontB[sizeB++] = id;
+        }
+
+        long expanded = 0;
+        long generated = 1 + turns;
+        long iterations = 0;
+        int peak = Math.max(sizeF, sizeB);
+        int depthF = 0;
+        int depthB = 0;
+        int meet = distB[startId] == 0 ? startId : UNSEEN;
+        int best = meet == UNSEEN ? Integer.MAX_VALUE : 0;
+
+        while (meet == UNSEEN && sizeF > 0 && sizeB > 0 && depthF + depthB < maxDepth) {
+            boolean forward = sizeF <= sizeB;
+            int[] front = forward ? frontF : frontB;
+            int size = forward ? sizeF : sizeB;
+            int[] dist = forward ? distF : distB;
+            int[] other = forward ? distB : distF;
+            int[] link = forward ? parentF : nextB;
+            int[] nextFront = new int[Math.max(16, size * 4)];
+            int nextSize = 0;
+            int depth = forward ? depthF : depthB;
+
+            for (int i = 0; i < size; i++) {
+                SearchBudget.Limit hit = null;
+                if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                    hit = budget.checkClock(startNanos);
+                }
+                if (expanded >= budget.getMaxExpansions()) {
+                    hit = SearchBudget.Limit.EXPANSIONS;
+                } else if (generated >= budget.getMaxNodes()) {
+                    hit = SearchBudget.Limit.NODES;
+                }
+                if (hit != null) {
+                    return SearchResult.budgetExhausted(hit,
+                            new SearchStats(expanded, generated, peak, System.nanoTime() - startNanos));
+                }
+                int id = front[i];
+                expanded++;
+                for (int n : forward ? space.successors(id) : space.predecessors(id)) {
+                    if (dist[n] != UNSEEN) {
+                        continue;
+                    }
+                    dist[n] = depth + 1;
+                    link[n] = id;
+                    generated++;
+                    if (nextSize == nextFront.length) {
+                        nextFront = Arrays.copyOf(nextFront, nextSize * 2);
+                    }
+                    nextFront[nextSize++] = n;
+                    if (other[n] != UNSEEN && depth + 1 + other[n] < best) {
+                        best = depth + 1 + other[n];
+                        meet = n;
+                    }
+                }
+            }
+            if (forward) {
+                frontF = nextFront;
+                sizeF = nextSize;
+                depthF++;
+            } else {
+                frontB = nextFront;
+                sizeB = nextSize;
+                depthB++;
+            }
+            peak = Math.max(peak, nextSize);
+        }
+
+        SearchStats stats = new SearchStats(expanded, generated, peak, System.nanoTime() - startNanos);
+        if (meet == UNSEEN || best > maxDepth) {
+            String msg = "No solution found within " + maxDepth + " moves from the initial state.";
+            return new SearchResult(false, Collections.emptyList(), msg, stats);
+        }
+        List<GameState> path = new ArrayList<>(best + 1);
+        for (int id = meet; id != UNSEEN; id = parentF[id]) {
+            path.add(space.decode(id));
+        }
+        Collections.reverse(path);
+        for (int id = nextB[meet]; id != UNSEEN; id = nextB[id]) {
+            path.add(space.decode(id));
+        }
+        return new SearchResult(true, path, "Goal found in " + best + " move(s).", stats);
+    }
+}
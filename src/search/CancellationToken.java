@@ -0,0 +1,18 @@
+package search;
+
+/**
+ * Cooperative cancellation flag shared between a caller and a running search.
+ * The solver polls it from its main loop; cancelling never interrupts threads.
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
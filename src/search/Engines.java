@@ -0,0 +1,152 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of the available search engines, looked up by name from the command-line tools.
+ */
+public final class Engines {
+
+    private static final Map<String, Function<MoveRules, SearchEngine>> REGISTRY = new LinkedHashMap<>();
+    private static final Map<MoveRules, PortfolioSolver> PORTFOLIOS = new ConcurrentHashMap<>();
+
+    static {
+        REGISTRY.put("astar", rules -> aStar(rules));
+        REGISTRY.put("incremental", rules -> new IncrementalPlanner(rules));
+        REGISTRY.put("external-bfs", rules -> new ExternalBfsSolver(rules));
+        REGISTRY.put("astar-turns", rules -> aStar(rules, Heuristics.Kind.TURN_AWARE));
+        REGISTRY.put("astar-bounded", rules -> boundedAStar(rules));
+        REGISTRY.put("astar-packed", rules -> aStar(rules, VisitedStore.Kind.PACKED_OFF_HEAP));
+        REGISTRY.put("astar-hash", rules -> aStar(rules, VisitedStore.Kind.HASH_OFF_HEAP));
+        REGISTRY.put("idastar", rules -> new IdaStarSolver(rules));
+        REGISTRY.put("bidirectional", rules -> new BidirectionalSolver(rules));
+        REGISTRY.put("macro", rules -> new MacroSolver(rules));
+        REGISTRY.put("portfolio", rules -> portfolio(rules));
+    }
+
+    private Engines() {
+    }
+
+    /**
+     * Plain A* with the Hamming heuristic, as used by the GUI.
+     */
+    public static SearchEngine aStar() {
+        return aStar(MoveRules.standard());
+    }
+
+    public static SearchEngine aStar(MoveRules rules) {
+        return aStar(rules, Heuristics.Kind.HAMMING);
+    }
+
+    /**
+     * A* with the given heuristic; named "astar" for Hamming and "astar-turns" for the turn-aware one.
+     */
+    public static SearchEngine aStar(MoveRules rules, Heuristics.Kind heuristic) {
+        String name = heuristic == Heuristics.Kind.HAMMING ? "astar" : "astar-turns";
+        return new SearchEngine() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+                AStarSolver solver = new AStarSolver(initial, goal, maxDepth, rules);
+                solver.setHeuristic(heuristic);
+                return solver.solveUnrecorded(null, budget);
+            }
+        };
+    }
+
+    /**
+     * Plain A* keeping its best-g table in the given kind of store; named
+     * "astar-packed" and "astar-hash" for the off-heap kinds.
+     */
+    public static SearchEngine aStar(MoveRules rules, VisitedStore.Kind visited) {
+        String name = visited == VisitedStore.Kind.PACKED_OFF_HEAP ? "astar-packed"
+                : visited == VisitedStore.Kind.HASH_OFF_HEAP ? "astar-hash" : "astar";
+        return new SearchEngine() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+                AStarSolver solver = new AStarSolver(initial, goal, maxDepth, rules);
+                solver.setVisitedStore(visited);
+                return solver.solveUnrecorded(null, budget);
+            }
+        };
+    }
+
+    /**
+     * A* in bounded-cost mode with the turn-aware heuristic: infeasible
+     * instances are rejected before searching when a lower bound proves it.
+     */
+    public static SearchEngine boundedAStar(MoveRules rules) {
+        return new SearchEngine() {
+            @Override
+            public String getName() {
+                return "astar-bounded";
+            }
+
+            @Override
+            public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+                AStarSolver solver = new AStarSolver(initial, goal, maxDepth, rules);
+                solver.setHeuristic(Heuristics.Kind.TURN_AWARE);
+                solver.setBounded(true);
+                return solver.solveUnrecorded(null, budget);
+            }
+        };
+    }
+
+    /**
+     * The portfolio for these rules. One instance per rule set is shared, so
+     * its worker threads are created once and its win statistics carry over
+     * from one lookup to the next; callers must not close it.
+     */
+    public static SearchEngine portfolio(MoveRules rules) {
+        PortfolioSolver portfolio = PORTFOLIOS.get(rules);
+        if (portfolio == null) {
+            PortfolioSolver created = new PortfolioSolver(rules);
+            portfolio = PORTFOLIOS.putIfAbsent(rules, created);
+            if (portfolio == null) {
+                portfolio = created;
+            } else {
+                created.close();
+            }
+        }
+        return portfolio;
+    }
+
+    /**
+     * @throws IllegalArgumentException when no engine has that name
+     */
+    public static SearchEngine byName(String name) {
+        return byName(name, MoveRules.standard());
+    }
+
+    /**
+     * @throws IllegalArgumentException when no engine has that name
+     */
+    public static SearchEngine byName(String name, MoveRules rules) {
+        Function<MoveRules, SearchEngine> factory = REGISTRY.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown engine '" + name + "', expected one of " + names());
+        }
+        return factory.apply(rules);
+    }
+
+    public static List<String> names() {
+        return new ArrayList<>(REGISTRY.keySet());
+    }
+}
@@ -0,0 +1,37 @@
+package search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One node expansion as seen by a {@link SearchListener}, in a form that can
+ * be handed to another thread: the successor list is copied.
+ */
+public final class ExpansionEvent {
+
+    private final long sequence;
+    private final Node chosen;
+    private final List<Node> successors;
+
+    public ExpansionEvent(long sequence, Node chosen, List<Node> successors) {
+        this.sequence = sequence;
+        this.chosen = chosen;
+        this.successors = Collections.unmodifiableList(new ArrayList<>(successors));
+    }
+
+    /**
+     * Position of the expansion in the search, starting at 0; gaps mean events were dropped.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Node getChosen() {
+        return chosen;
+    }
+
+    public List<Node> getSuccessors() {
+        return successors;
+    }
+}
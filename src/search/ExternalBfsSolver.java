@@ -0,0 +1,347 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Breadth-first search that keeps its frontier on disk, for state spaces
+ * that do not fit in memory.
+ *
+ * Every depth layer is a file of sorted, delta-compressed state ids (see
+ * {@link SortedIdFile}). A layer is expanded by streaming it and collecting
+ * successor ids in a bounded buffer; a full buffer is sorted and spilled as
+ * a run. The runs are then merged, deduplicated and subtracted from all
+ * earlier layers in one sequential pass, which yields the next layer. Moves
+ * are not reversible in general (the turn advances), so duplicates are
+ * checked against every earlier layer, not just the last two.
+ *
+ * All moves cost 1, so the first layer holding a goal placement gives the
+ * optimal cost. The path is rebuilt backwards by scanning each earlier layer
+ * for a predecessor of the current state.
+ *
+ * Memory use is the sort buffer, which grows as needed up to the configured
+ * budget, plus one {@value SortedIdFile#IO_BUFFER_BYTES}-byte I/O buffer per
+ * open file.
+ */
+public final class ExternalBfsSolver implements SearchEngine {
+
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L << 20;
+
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final int MIN_BUFFER_IDS = 1024;
+
+    private final MoveRules rules;
+    private final long memoryBudgetBytes;
+    private final Path tempRoot;
+
+    public ExternalBfsSolver() {
+        this(MoveRules.standard());
+    }
+
+    public ExternalBfsSolver(MoveRules rules) {
+        this(rules, DEFAULT_MEMORY_BUDGET_BYTES, null);
+    }
+
+    /**
+     * @param memoryBudgetBytes maximum size of the in-memory sort buffer
+     * @param tempRoot          directory for the layer files, or null for the system temp directory
+     */
+    public ExternalBfsSolver(MoveRules rules, long memoryBudgetBytes, Path tempRoot) {
+        this.rules = rules;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempRoot = tempRoot;
+    }
+
+    @Override
+    public String getName() {
+        return "external-bfs";
+    }
+
+    /**
+     * @throws UncheckedIOException when the layer files cannot be written or read
+     */
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        Path dir = null;
+        try {
+            dir = tempRoot == null ? Files.createTempDirectory("tricolor-bfs")
+                    : Files.createTempDirectory(tempRoot, "tricolor-bfs");
+            return search(dir, initial, goal, maxDepth, budget);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (dir != null) {
+                deleteQuietly(dir);
+            }
+        }
+    }
+
+    private SearchResult search(Path dir, GameState initial, GameState goal, int maxDepth, SearchBudget budget)
+            throws IOException {
+        long startNanos = System.nanoTime();
+        StateSpace space = StateSpace.of(rules);
+        int goalR = StateSpace.cellOf(goal.getRPos());
+        int goalG = StateSpace.cellOf(goal.getGPos());
+        int goalB = StateSpace.cellOf(goal.getBPos());
+        int startId = space.encode(initial);
+        // The buffer starts small and doubles up to the budget, so small instances never allocate all of it.
+        int capacity = (int) Math.max(MIN_BUFFER_IDS, Math.min(Integer.MAX_VALUE - 8, memoryBudgetBytes / 4));
+        int[] buffer = new int[MIN_BUFFER_IDS];
+
+        List<Path> layers = new ArrayList<>();
+        Path first = dir.resolve("layer-0");
+        try (SortedIdFile.Writer w = new SortedIdFile.Writer(first)) {
+            w.write(startId);
+        }
+        layers.add(first);
+        if (isGoal(space, startId, goalR, goalG, goalB)) {
+            SearchStats stats = new SearchStats(0, 1, 1, System.nanoTime() - startNanos);
+            return new SearchResult(true, Collections.singletonList(initial), "Goal found in 0 move(s).", stats);
+        }
+
+        long expanded = 0;
+        long generated = 1;
+        long iterations = 0;
+        long peakLayer = 1;
+        for (int depth = 0; depth < maxDepth; depth++) {
+            List<Path> runs = new ArrayList<>();
+            int fill = 0;
+            try (SortedIdFile.Reader layer = new SortedIdFile.Reader(layers.get(depth))) {
+                for (long id = layer.next(); id != SortedIdFile.END; id = layer.next()) {
+                    SearchBudget.Limit hit = null;
+                    if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                        hit = budget.checkClock(startNanos);
+                    }
+                    if (expanded >= budget.getMaxExpansions()) {
+                        hit = SearchBudget.Limit.EXPANSIONS;
+                    } else if (generated >= budget.getMaxNodes()) {
+                        hit = SearchBudget.Limit.NODES;
+                    }
+                    if (hit != null) {
+                        return SearchResult.budgetExhausted(hit, new SearchStats(expanded, generated,
+                                (int) Math.min(Integer.MAX_VALUE, peakLayer), System.nanoTime() - startNanos));
+                    }
+                    expanded++;
+                    for (int succ : space.successors((int) id)) {
+                        if (fill == buffer.length) {
+                            if (buffer.length < capacity) {
+                                buffer = Arrays.copyOf(buffer, (int) Math.min(capacity, 2L * buffer.length));
+                            } else {
+                                runs.add(spill(dir, depth, runs.size(), buffer, fill));
+                                fill = 0;
+                            }
+                        }
+                        buffer[fill++] = succ;
+                        generated++;
+                    }
+                }
+            }
+            if (fill > 0) {
+                runs.add(spill(dir, depth, runs.size(), buffer, fill));
+            }
+
+            Path next = dir.resolve("layer-" + (depth + 1));
+            long[] merged = mergeLayer(runs, layers, next, space, goalR, goalG, goalB);
+            for (Path run : runs) {
+                Files.delete(run);
+            }
+            layers.add(next);
+            peakLayer = Math.max(peakLayer, merged[0]);
+            if (merged[1] != SortedIdFile.END) {
+                List<GameState> path = reconstructPath(space, layers, (int) merged[1]);
+                SearchStats stats = new SearchStats(expanded, generated, (int) Math.min(Integer.MAX_VALUE, peakLayer),
+                        System.nanoTime() - startNanos);
+                return new SearchResult(true, path, "Goal found in " + (depth + 1) + " move(s).", stats);
+            }
+            if (merged[0] == 0) {
+                // Every reachable state has been seen.
+                break;
+            }
+        }
+        SearchStats stats = new SearchStats(expanded, generated, (int) Math.min(Integer.MAX_VALUE, peakLayer),
+                System.nanoTime() - startNanos);
+        String msg = "No solution found within " + maxDepth + " moves from the initial state.";
+        return new SearchResult(false, Collections.emptyList(), msg, stats);
+    }
+
+    private static boolean isGoal(StateSpace space, int id, int goalR, int goalG, int goalB) {
+        return space.rCell(id) == goalR && space.gCell(id) == goalG && space.bCell(id) == goalB;
+    }
+
+    private static Path spill(Path dir, int depth, int runIndex, int[] buffer, int fill) throws IOException {
+        Arrays.sort(buffer, 0, fill);
+        Path run = dir.resolve("run-" + depth + "-" + runIndex);
+        try (SortedIdFile.Writer w = new SortedIdFile.Writer(run)) {
+            for (int i = 0; i < fill; i++) {
+                if (i == 0 || buffer[i] != buffer[i - 1]) {
+                    w.write(buffer[i]);
+                }
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Merges the sorted runs into the next layer, dropping duplicates and ids
+     * already present in an earlier layer. Stops early at the first goal.
+     *
+     * @return {size of the new layer, first goal id or END}
+     */
+    private static long[] mergeLayer(List<Path> runs, List<Path> layers, Path out, StateSpace space,
+                                     int goalR, int goalG, int goalB) throws IOException {
+        SortedIdFile.Reader[] runReaders = new SortedIdFile.Reader[runs.size()];
+        SortedIdFile.Reader[] seenReaders = new SortedIdFile.Reader[layers.size()];
+        try (SortedIdFile.Writer w = new SortedIdFile.Writer(out)) {
+            long[] heads = new long[runReaders.length];
+            int[] heap = new int[runReaders.length];
+            int heapSize = 0;
+            for (int i = 0; i < runReaders.length; i++) {
+                runReaders[i] = new SortedIdFile.Reader(runs.get(i));
+                heads[i] = runReaders[i].next();
+                if (heads[i] != SortedIdFile.END) {
+                    heapSize = siftUp(heap, heapSize, i, heads);
+                }
+            }
+            long[] seenHeads = new long[seenReaders.length];
+            for (int i = 0; i < seenReaders.length; i++) {
+                seenReaders[i] = new SortedIdFile.Reader(layers.get(i));
+                seenHeads[i] = seenReaders[i].next();
+            }
+
+            long last = SortedIdFile.END;
+            while (heapSize > 0) {
+                int top = heap[0];
+                long id = heads[top];
+                heads[top] = runReaders[top].next();
+                if (heads[top] == SortedIdFile.END) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, heads);
+                if (id == last) {
+                    continue;
+                }
+                last = id;
+                if (seenBefore(id, seenReaders, seenHeads)) {
+                    continue;
+                }
+                w.write(id);
+                if (isGoal(space, (int) id, goalR, goalG, goalB)) {
+                    return new long[]{w.count(), id};
+                }
+            }
+            return new long[]{w.count(), SortedIdFile.END};
+        } finally {
+            closeAll(runReaders);
+            closeAll(seenReaders);
+        }
+    }
+
+    private static boolean seenBefore(long id, SortedIdFile.Reader[] readers, long[] heads) throws IOException {
+        for (int i = 0; i < readers.length; i++) {
+            while (heads[i] != SortedIdFile.END && heads[i] < id) {
+                heads[i] = readers[i].next();
+            }
+            if (heads[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int siftUp(int[] heap, int size, int reader, long[] heads) {
+        int pos = size;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (heads[heap[parent]] <= heads[reader]) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = reader;
+        return size + 1;
+    }
+
+    private static void siftDown(int[] heap, int size, long[] heads) {
+        if (size == 0) {
+            return;
+        }
+        int reader = heap[0];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && heads[heap[child + 1]] < heads[heap[child]]) {
+                child++;
+            }
+            if (heads[reader] <= heads[heap[child]]) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = reader;
+    }
+
+    /**
+     * Walks back from the goal, taking from each earlier layer the first state
+     * that has the current one as a successor.
+     */
+    private static List<GameState> reconstructPath(StateSpace space, List<Path> layers, int goalId)
+            throws IOException {
+        int depth = layers.size() - 1;
+        int[] ids = new int[depth + 1];
+        ids[depth] = goalId;
+        for (int d = depth - 1; d >= 0; d--) {
+            int target = ids[d + 1];
+            ids[d] = -1;
+            try (SortedIdFile.Reader layer = new SortedIdFile.Reader(layers.get(d))) {
+                for (long id = layer.next(); id != SortedIdFile.END && ids[d] < 0; id = layer.next()) {
+                    for (int succ : space.successors((int) id)) {
+                        if (succ == target) {
+                            ids[d] = (int) id;
+                            break;
+                        }
+                    }
+                }
+            }
+            if (ids[d] < 0) {
+                throw new IllegalStateException("No predecessor of state " + target + " in layer " + d);
+            }
+        }
+        List<GameState> path = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            path.add(space.decode(id));
+        }
+        return path;
+    }
+
+    private static void closeAll(SortedIdFile.Reader[] readers) throws IOException {
+        for (SortedIdFile.Reader r : readers) {
+            if (r != null) {
+                r.close();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path f : files) {
+                Files.deleteIfExists(f);
+            }
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+            // Temporary files only; the OS cleans the temp directory eventually.
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package search;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link VisitedStore} as an open-addressing hash table with linear probing
+ * in a direct buffer. Each slot is a 12-byte (key + 1, g) pair, key 0 marking
+ * an empty slot; the table doubles when it is half full.
+ *
+ * Only this best-g table lives off heap. The search's {@link NodeArena},
+ * {@link OpenList} and the {@link StateSpace} tables stay on the heap.
+ */
+final class HashVisitedStore implements VisitedStore {
+
+    private static final int SLOT_BYTES = 12;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / SLOT_BYTES;
+
+    private ByteBuffer table;
+    private int capacity;
+    private int size;
+
+    HashVisitedStore(int initialCapacity) {
+        capacity = Integer.highestOneBit(Math.max(16, initialCapacity - 1) << 1);
+        table = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+    }
+
+    @Override
+    public int get(long stateId) {
+        long key = stateId + 1;
+        int mask = capacity - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long k = table.getLong(slot * SLOT_BYTES);
+            if (k == key) {
+                return table.getInt(slot * SLOT_BYTES + 8);
+            }
+            if (k == 0) {
+                return UNSEEN;
+            }
+        }
+    }
+
+    @Override
+    public void put(long stateId, int g) {
+        if (size * 2 >= capacity) {
+            grow();
+        }
+        if (insert(table, capacity, stateId + 1, g)) {
+            size++;
+        }
+    }
+
+    /**
+     * @return true when the key was not in the table yet
+     */
+    private boolean insert(ByteBuffer into, int intoCapacity, long key, int g) {
+        int mask = intoCapacity - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long k = into.getLong(slot * SLOT_BYTES);
+            if (k == 0 || k == key) {
+                into.putLong(slot * SLOT_BYTES, key);
+                into.putInt(slot * SLOT_BYTES + 8, g);
+                return k == 0;
+            }
+        }
+    }
+
+    private void grow() {
+        if (capacity >= MAX_CAPACITY / 2) {
+            throw new IllegalStateException("Visited table is full at " + size + " states");
+        }
+        int newCapacity = capacity * 2;
+        ByteBuffer bigger = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES);
+        for (int slot = 0; slot < capacity; slot++) {
+            long k = table.getLong(slot * SLOT_BYTES);
+            if (k != 0) {
+                insert(bigger, newCapacity, k, table.getInt(slot * SLOT_BYTES + 8));
+            }
+        }
+        table = bigger;
+        capacity = newCapacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
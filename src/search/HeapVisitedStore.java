@@ -0,0 +1,26 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * {@link VisitedStore} backed by a plain int array indexed by state id.
+ */
+final class HeapVisitedStore implements VisitedStore {
+
+    private final int[] bestG;
+
+    HeapVisitedStore(int stateCount) {
+        bestG = new int[stateCount];
+        Arrays.fill(bestG, UNSEEN);
+    }
+
+    @Override
+    public int get(long stateId) {
+        return bestG[(int) stateId];
+    }
+
+    @Override
+    public void put(long stateId, int g) {
+        bestG[(int) stateId] = g;
+    }
+}
@@ -1,6 +1,7 @@
 package search;
 
 import model.GameState;
+import model.GoalPattern;
 import model.Position;
 
 /**
@@ -8,6 +9,16 @@ import model.Position;
  */
 public final class Heuristics {
 
+    /**
+     * Heuristics a solver can be configured with.
+     */
+    public enum Kind {
+        /** Number of misplaced tiles (the original heuristic). */
+        HAMMING,
+        /** Turn-order-aware move count, see {@link TurnAwareHeuristic}. */
+        TURN_AWARE
+    }
+
     private Heuristics() {
     }
 
@@ -34,4 +45,30 @@ public final class Heuristics {
 
         return distance;
     }
+
+    /**
+     * Same Hamming distance, computed on a packed state id against goal cell indices.
+     */
+    public static int hamming(StateSpace space, int stateId, int goalR, int goalG, int goalB) {
+        int distance = 0;
+        if (space.rCell(stateId) != goalR) {
+            distance++;
+        }
+        if (space.gCell(stateId) != goalG) {
+            distance++;
+        }
+        if (space.bCell(stateId) != goalB) {
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * Hamming distance against a goal pattern: the number of tiles standing
+     * outside the cells the pattern allows them.
+     */
+    public static int hamming(StateSpace space, int stateId, GoalPattern goal) {
+        int placement = GoalPattern.placementBits(space.rCell(stateId), space.gCell(stateId), space.bCell(stateId));
+        return Integer.bitCount(placement & ~goal.bits());
+    }
 }
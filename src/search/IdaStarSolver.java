@@ -0,0 +1,154 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Iterative-deepening A*: depth-first searches bounded by f = g + h, with the
+ * bound raised to the smallest f that exceeded it until a goal is found.
+ * Memory is only the current path, at the price of re-expanding the upper
+ * levels on every iteration. Uses the {@link TurnAwareHeuristic}, whose
+ * larger estimates keep the number of iterations low; states already on the
+ * current path are skipped.
+ */
+public final class IdaStarSolver implements SearchEngine {
+
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final int FOUND = -1;
+    private static final int ABORTED = -2;
+
+    private final MoveRules rules;
+
+    public IdaStarSolver() {
+        this(MoveRules.standard());
+    }
+
+    public IdaStarSolver(MoveRules rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public String getName() {
+        return "idastar";
+    }
+
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        return new Search(initial, goal, maxDepth, budget).run();
+    }
+
+    /**
+     * State of one solve, so the engine itself can be shared between threads.
+     */
+    private final class Search {
+
+        private final StateSpace space = StateSpace.of(rules);
+        private final TurnAwareHeuristic heuristic = TurnAwareHeuristic.of(rules);
+        private final GameState initial;
+        private final int goalR;
+        private final int goalG;
+        private final int goalB;
+        private final int maxDepth;
+        private final SearchBudget budget;
+        private final long startNanos = System.nanoTime();
+        private final int[] path;
+        private final boolean[] onPath;
+        private long expanded;
+        private long generated;
+        private long iterations;
+        private int deepest;
+        private int foundDepth = -1;
+        private SearchBudget.Limit hit;
+
+        Search(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+            this.initial = initial;
+            this.goalR = StateSpace.cellOf(goal.getRPos());
+            this.goalG = StateSpace.cellOf(goal.getGPos());
+            this.goalB = StateSpace.cellOf(goal.getBPos());
+            this.maxDepth = maxDepth;
+            this.budget = budget;
+            this.path = new int[Math.max(0, maxDepth) + 1];
+            this.onPath = new boolean[space.stateCount()];
+        }
+
+        SearchResult run() {
+            int startId = space.encode(initial);
+            int bound = heuristic.estimate(space, startId, goalR, goalG, goalB);
+            path[0] = startId;
+            onPath[startId] = true;
+            while (bound <= maxDepth) {
+                int t = dfs(0, bound);
+                if (t == FOUND) {
+                    break;
+                }
+                if (t == ABORTED) {
+                    return SearchResult.budgetExhausted(hit, stats());
+                }
+                bound = t;
+            }
+            int pathLength = foundDepth;
+            if (pathLength < 0) {
+                String msg = "No solution found within " + maxDepth + " moves from the initial state.";
+                return new SearchResult(false, Collections.emptyList(), msg, stats());
+            }
+            List<GameState> states = new ArrayList<>(pathLength + 1);
+            for (int i = 0; i <= pathLength; i++) {
+                states.add(space.decode(path[i]));
+            }
+            return new SearchResult(true, states, "Goal found in " + pathLength + " move(s).", stats());
+        }
+
+        /**
+         * @return FOUND, ABORTED, or the smallest f above the bound seen below this node
+         */
+        private int dfs(int g, int bound) {
+            int id = path[g];
+            int f = g + heuristic.estimate(space, id, goalR, goalG, goalB);
+            if (f > bound) {
+                return f;
+            }
+            if (space.rCell(id) == goalR && space.gCell(id) == goalG && space.bCell(id) == goalB) {
+                foundDepth = g;
+                return FOUND;
+            }
+            if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                hit = budget.checkClock(startNanos);
+            }
+            if (expanded >= budget.getMaxExpansions()) {
+                hit = SearchBudget.Limit.EXPANSIONS;
+            } else if (generated >= budget.getMaxNodes()) {
+                hit = SearchBudget.Limit.NODES;
+            }
+            if (hit != null) {
+                return ABORTED;
+            }
+            expanded++;
+            deepest = Math.max(deepest, g + 1);
+            int next = TurnAwareHeuristic.UNREACHABLE;
+            for (int succ : space.successors(id)) {
+                if (onPath[succ]) {
+                    continue;
+                }
+                generated++;
+                path[g + 1] = succ;
+                onPath[succ] = true;
+                int t = dfs(g + 1, bound);
+                onPath[succ] = false;
+                if (t == FOUND || t == ABORTED) {
+                    return t;
+                }
+                next = Math.min(next, t);
+            }
+            return next;
+        }
+
+        private SearchStats stats() {
+            // The "open list" of a depth-first search is the current path.
+            return new SearchStats(expanded, generated, deepest + 1, System.nanoTime() - startNanos);
+        }
+    }
+}
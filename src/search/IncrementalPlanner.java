@@ -0,0 +1,322 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A planner that keeps its search state between queries, for the common case
+ * where the user changes one board and solves again.
+ *
+ * Two search trees are kept, in the spirit of LPA* and D* Lite:
+ * <ul>
+ *   <li>a forward tree rooted at the start state. When only the goal changes,
+ *       every expanded state still has its exact distance from the start, so
+ *       the open list is re-keyed with the new heuristic and the search simply
+ *       resumes;</li>
+ *   <li>a backward tree rooted at the goal states (the goal placement with any
+ *       turn), built over {@link StateSpace#predecessors}. When only the start
+ *       changes, every expanded state still has its exact distance to the goal,
+ *       so a start that was already expanded is answered immediately and any
+ *       other start resumes the backward search.</li>
+ * </ul>
+ * The Hamming heuristic is consistent in both directions, so the resumed
+ * searches return the same optimal cost as a fresh {@link AStarSolver}. A
+ * query that changes both boards starts a new forward tree.
+ *
+ * Not thread-safe: one planner serves one sequence of queries.
+ */
+public final class IncrementalPlanner implements SearchEngine {
+
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final int NO_TARGET_ID = -1;
+
+    private final StateSpace space;
+    private SearchTree forward;
+    private SearchTree backward;
+    private int lastGoalCells = -1;
+    private long lastReused;
+
+    public IncrementalPlanner() {
+        this(MoveRules.standard());
+    }
+
+    public IncrementalPlanner(MoveRules rules) {
+        this.space = StateSpace.of(rules);
+    }
+
+    @Override
+    public String getName() {
+        return "incremental";
+    }
+
+    /**
+     * Number of states whose expansion the last query took over from earlier
+     * queries instead of redoing it.
+     */
+    public long getLastReusedExpansions() {
+        return lastReused;
+    }
+
+    /**
+     * Drops all kept search state.
+     */
+    public void reset() {
+        forward = null;
+        backward = null;
+        lastGoalCells = -1;
+    }
+
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        int startId = space.encode(initial);
+        int goalR = StateSpace.cellOf(goal.getRPos());
+        int goalG = StateSpace.cellOf(goal.getGPos());
+        int goalB = StateSpace.cellOf(goal.getBPos());
+        int goalCells = (goalR * 9 + goalG) * 9 + goalB;
+
+        SearchResult result;
+        if (forward != null && forward.anchor == startId) {
+            result = forward.query(goalR, goalG, goalB, NO_TARGET_ID, maxDepth, budget);
+            lastReused = forward.reusedByLastQuery;
+        } else if (backward != null && backward.anchor == goalCells) {
+            result = backward.query(space.rCell(startId), space.gCell(startId), space.bCell(startId), startId,
+                    maxDepth, budget);
+            lastReused = backward.reusedByLastQuery;
+        } else if (goalCells == lastGoalCells) {
+            // Only the start moved: later start edits can reuse a tree grown from the goal.
+            backward = SearchTree.backward(space, goalR, goalG, goalB, goalCells);
+            result = backward.query(space.rCell(startId), space.gCell(startId), space.bCell(startId), startId,
+                    maxDepth, budget);
+            lastReused = 0;
+        } else {
+            forward = SearchTree.forward(space, startId);
+            result = forward.query(goalR, goalG, goalB, NO_TARGET_ID, maxDepth, budget);
+            lastReused = 0;
+        }
+        lastGoalCells = goalCells;
+        return result;
+    }
+
+    /**
+     * One resumable best-first search over state ids. Per-state g values,
+     * parents and the closed flags live in arrays sized to the state space;
+     * the open list is a heap of packed (f, h, g, id) keys with lazy deletion,
+     * rebuilt whenever the heuristic target changes.
+     */
+    private static final class SearchTree {
+
+        private static final int UNSEEN = Integer.MAX_VALUE;
+        private static final int NO_TARGET = -1;
+
+        private final StateSpace space;
+        private final boolean backwards;
+        /** Start id for a forward tree, packed goal cells for a backward tree. */
+        private final int anchor;
+        private final int[] g;
+        private final int[] parent;
+        private final boolean[] closed;
+        private long closedCount;
+        private long reusedByLastQuery;
+        private long[] heap = new long[64];
+        private int heapSize;
+        private int targetR = NO_TARGET;
+        private int targetG;
+        private int targetB;
+
+        private SearchTree(StateSpace space, boolean backwards, int anchor) {
+            this.space = space;
+            this.backwards = backwards;
+            this.anchor = anchor;
+            this.g = new int[space.stateCount()];
+            this.parent = new int[space.stateCount()];
+            this.closed = new boolean[space.stateCount()];
+            Arrays.fill(g, UNSEEN);
+        }
+
+        static SearchTree forward(StateSpace space, int startId) {
+            SearchTree tree = new SearchTree(space, false, startId);
+            tree.g[startId] = 0;
+            tree.parent[startId] = NodeArena.NO_PARENT;
+            return tree;
+        }
+
+        static SearchTree backward(StateSpace space, int goalR, int goalG, int goalB, int goalCells) {
+            SearchTree tree = new SearchTree(space, true, goalCells);
+            int turns = space.getRules().turnCount();
+            for (int t = 0; t < turns; t++) {
+                int id = space.idOf(goalR, goalG, goalB, t);
+                tree.g[id] = 0;
+                tree.parent[id] = NodeArena.NO_PARENT;
+            }
+            return tree;
+        }
+
+        /**
+         * Forward trees search towards any state with tiles on the target
+         * cells; backward trees search towards the single target state, whose
+         * cells are passed for the heuristic.
+         */
+        SearchResult query(int r, int gCell, int b, int targetId, int maxDepth, SearchBudget budget) {
+            long startNanos = System.nanoTime();
+            long reused = closedCount;
+            reusedByLastQuery = reused;
+            long expanded = 0;
+            long generated = 0;
+            long iterations = 0;
+
+            if (r != targetR || gCell != targetG || b != targetB) {
+                targetR = r;
+                targetG = gCell;
+                targetB = b;
+                rebuildHeap();
+            }
+            int peakOpen = heapSize;
+
+            // Best target already settled by earlier queries; an upper bound until nothing open can beat it.
+            int best = UNSEEN;
+            int bestId = -1;
+            if (backwards) {
+                if (closed[targetId]) {
+                    best = g[targetId];
+                    bestId = targetId;
+                }
+            } else {
+                int turns = space.getRules().turnCount();
+                for (int t = 0; t < turns; t++) {
+                    int id = space.idOf(r, gCell, b, t);
+                    if (closed[id] && g[id] < best) {
+                        best = g[id];
+                        bestId = id;
+                    }
+                }
+            }
+
+            boolean settled = backwards && bestId == targetId;
+            while (heapSize > 0 && !settled) {
+                long top = heap[0];
+                int id = (int) top;
+                int f = (int) (top >>> 52);
+                int gTop = (int) (top >>> 32) & 0x3FF;
+                if (closed[id] || g[id] != gTop) {
+                    pollHeap();
+                    continue;
+                }
+                if (f >= best || f > maxDepth) {
+                    break;
+                }
+                if (isTarget(id, targetId)) {
+                    // Left on the heap: the next query may need it expanded.
+                    best = g[id];
+                    bestId = id;
+                    break;
+                }
+                SearchBudget.Limit hit = null;
+                if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                    hit = budget.checkClock(startNanos);
+                }
+                if (expanded >= budget.getMaxExpansions()) {
+                    hit = SearchBudget.Limit.EXPANSIONS;
+                } else if (generated >= budget.getMaxNodes()) {
+                    hit = SearchBudget.Limit.NODES;
+                }
+                if (hit != null) {
+                    return SearchResult.budgetExhausted(hit,
+                            new SearchStats(expanded, generated, peakOpen, System.nanoTime() - startNanos));
+                }
+
+                pollHeap();
+                closed[id] = true;
+                closedCount++;
+                expanded++;
+                int next = g[id] + 1;
+                for (int n : backwards ? space.predecessors(id) : space.successors(id)) {
+                    if (next < g[n]) {
+                        g[n] = next;
+                        parent[n] = id;
+                        push(n);
+                        generated++;
+                    }
+                }
+                peakOpen = Math.max(peakOpen, heapSize);
+            }
+
+            SearchStats stats = new SearchStats(expanded, generated, peakOpen, System.nanoTime() - startNanos);
+            if (best > maxDepth) {
+                String msg = "No solution found within " + maxDepth + " moves from the initial state.";
+                return new SearchResult(false, Collections.emptyList(), msg, stats);
+            }
+            String msg = "Goal found in " + best + " move(s); reused " + reused + " expanded state(s).";
+            return new SearchResult(true, path(bestId), msg, stats);
+        }
+
+        private boolean isTarget(int id, int targetId) {
+            if (backwards) {
+                return id == targetId;
+            }
+            return space.rCell(id) == targetR && space.gCell(id) == targetG && space.bCell(id) == targetB;
+        }
+
+        private List<GameState> path(int endId) {
+            List<GameState> path = new ArrayList<>();
+            for (int id = endId; id != NodeArena.NO_PARENT; id = parent[id]) {
+                path.add(space.decode(id));
+            }
+            if (!backwards) {
+                // Parents point back to the start; backward trees already list start to goal.
+                Collections.reverse(path);
+            }
+            return path;
+        }
+
+        private void rebuildHeap() {
+            heapSize = 0;
+            for (int id = 0; id < g.length; id++) {
+                if (g[id] != UNSEEN && !closed[id]) {
+                    push(id);
+                }
+            }
+        }
+
+        private void push(int id) {
+            int h = Heuristics.hamming(space, id, targetR, targetG, targetB);
+            // f and g stay far below their field widths: depths in a 3x3 space are tiny.
+            long key = ((long) (g[id] + h) << 52) | ((long) h << 42) | ((long) g[id] << 32) | id;
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+            int pos = heapSize++;
+            while (pos > 0) {
+                int parentPos = (pos - 1) >>> 1;
+                if (heap[parentPos] <= key) {
+                    break;
+                }
+                heap[pos] = heap[parentPos];
+                pos = parentPos;
+            }
+            heap[pos] = key;
+        }
+
+        private void pollHeap() {
+            long last = heap[--heapSize];
+            int pos = 0;
+            int half = heapSize >>> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                pos = child;
+            }
+            heap[pos] = last;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package search;
+
+import model.GoalPattern;
+import model.MoveRules;
+import model.TileColor;
+
+/**
+ * Why an instance has no solution within its move limit, as reported by a
+ * bounded search (see {@link AStarSolver#setBounded}).
+ */
+public final class Infeasibility {
+
+    public enum Reason {
+        /** A misplaced tile never gets a turn under the rules' turn order. */
+        TILE_NEVER_MOVES,
+        /** None of a tile's goal cells can be reached from its cell with the rules' move type, even on an empty board. */
+        CELL_UNREACHABLE,
+        /** The turn-aware lower bound on the number of moves already exceeds the limit. */
+        LOWER_BOUND_EXCEEDS_LIMIT,
+        /** No cheap proof applied; the search covered every state within the limit. */
+        SEARCH_EXHAUSTED
+    }
+
+    private final Reason reason;
+    private final TileColor tile;
+    private final int lowerBound;
+    private final int limit;
+
+    private Infeasibility(Reason reason, TileColor tile, int lowerBound, int limit) {
+        this.reason = reason;
+        this.tile = tile;
+        this.lowerBound = lowerBound;
+        this.limit = limit;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * The tile the proof is about, or null for LOWER_BOUND_EXCEEDS_LIMIT and SEARCH_EXHAUSTED.
+     */
+    public TileColor getTile() {
+        return tile;
+    }
+
+    /**
+     * The lower bound that exceeded the limit, or -1 when not applicable.
+     */
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    static Infeasibility searchExhausted(int limit) {
+        return new Infeasibility(Reason.SEARCH_EXHAUSTED, null, -1, limit);
+    }
+
+    /**
+     * Cheap proofs that the start cannot reach the goal within the limit,
+     * checked before searching; null when none applies.
+     */
+    static Infeasibility check(StateSpace space, TurnAwareHeuristic heuristic, int startId,
+                               GoalPattern goal, int[][] toGoal, int limit) {
+        MoveRules rules = space.getRules();
+        int[] from = {space.rCell(startId), space.gCell(startId), space.bCell(startId)};
+        TileColor[] tiles = {TileColor.R, TileColor.G, TileColor.B};
+        for (int i = 0; i < tiles.length; i++) {
+            if ((goal.mask(tiles[i]) & 1 << from[i]) != 0) {
+                continue;
+            }
+            if (!hasTurn(rules, tiles[i])) {
+                return new Infeasibility(Reason.TILE_NEVER_MOVES, tiles[i], -1, limit);
+            }
+            if (toGoal[i][from[i]] >= TurnAwareHeuristic.UNREACHABLE) {
+                return new Infeasibility(Reason.CELL_UNREACHABLE, tiles[i], -1, limit);
+            }
+        }
+        int bound = heuristic.estimate(space, startId, toGoal);
+        if (bound > limit) {
+            return new Infeasibility(Reason.LOWER_BOUND_EXCEEDS_LIMIT, null, bound, limit);
+        }
+        return null;
+    }
+
+    private static boolean hasTurn(MoveRules rules, TileColor tile) {
+        for (int t = 0; t < rules.turnCount(); t++) {
+            if (rules.tileForTurn(t) == tile) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        switch (reason) {
+            case TILE_NEVER_MOVES:
+                return tile + " is misplaced but never gets a turn.";
+            case CELL_UNREACHABLE:
+                return tile + " cannot reach its goal cell with these moves.";
+            case LOWER_BOUND_EXCEEDS_LIMIT:
+                return "At least " + lowerBound + " moves are needed, more than the limit of " + limit + ".";
+            case SEARCH_EXHAUSTED:
+            default:
+                return "No sequence of at most " + limit + " moves reaches the goal.";
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A* over whole rounds instead of single plies. The turn order repeats every
+ * {@code turnCount} plies, so every state at the start of a round has the same
+ * turn as the initial state. A macro move is one full round (R, G, B with the
+ * standard rules); the macro table lists, per state, the distinct states one
+ * round later, so the many orders in which intermediate states are reached
+ * collapse into one edge.
+ *
+ * A goal can also be reached in the middle of a round. Every expanded
+ * round-start state therefore runs a short ply-level search of at most one
+ * round towards the goal; the cheapest finish seen is kept, and the search
+ * stops once no open round-start state can beat it. Costs stay in plies and
+ * the turn-aware heuristic bounds the remaining plies, so the result is
+ * ply-optimal. The returned path is expanded back to single plies.
+ */
+public final class MacroSolver implements SearchEngine {
+
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final Map<MoveRules, MacroTable> TABLES = new ConcurrentHashMap<>();
+
+    private final MoveRules rules;
+
+    public MacroSolver() {
+        this(MoveRules.standard());
+    }
+
+    public MacroSolver(MoveRules rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public String getName() {
+        return "macro";
+    }
+
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        return search(initial, goal, maxDepth, budget);
+    }
+
+    private SearchResult search(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        long startNanos = System.nanoTime();
+        StateSpace space = StateSpace.of(rules);
+        MacroTable table = tableFor(space);
+        TurnAwareHeuristic heuristic = TurnAwareHeuristic.of(rules);
+        int round = rules.turnCount();
+        int goalR = StateSpace.cellOf(goal.getRPos());
+        int goalG = StateSpace.cellOf(goal.getGPos());
+        int goalB = StateSpace.cellOf(goal.getBPos());
+        int startId = space.encode(initial);
+
+        NodeArena arena = new NodeArena();
+        OpenList open = new OpenList(arena);
+        int[] bestG = new int[space.stateCount()];
+        Arrays.fill(bestG, Integer.MAX_VALUE);
+        // Scratch for the ply-level finishing searches.
+        int[] stamp = new int[space.stateCount()];
+        int[] finishPath = new int[round + 1];
+        int[] bestFinish = null;
+        int bestCost = Integer.MAX_VALUE;
+        int bestNode = -1;
+
+        int h0 = heuristic.estimate(space, startId, goalR, goalG, goalB);
+        if (h0 <= maxDepth) {
+            open.add(arena.add(startId, NodeArena.NO_PARENT, 0, h0));
+            bestG[startId] = 0;
+        }
+        long expanded = 0;
+        long iterations = 0;
+        int peakOpen = open.size();
+        int search = 0;
+
+        while (!open.isEmpty() && arena.f(open.peek()) < bestCost) {
+            int current = open.poll();
+            int stateId = arena.stateId(current);
+            int g = arena.g(current);
+            if (g != bestG[stateId]) {
+                continue;
+            }
+
+            // Once a finish is known only its optimality proof is left, and it only
+            // queues nodes below the best cost. The expansion and node limits then
+            // no longer apply, just as A* still returns a goal popped at the limit;
+            // the clock and cancellation always do.
+            SearchBudget.Limit hit = null;
+            if ((++iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0) {
+                hit = budget.checkClock(startNanos);
+            }
+            if (bestNode < 0) {
+                if (expanded >= budget.getMaxExpansions()) {
+                    hit = SearchBudget.Limit.EXPANSIONS;
+                } else if (arena.size() >= budget.getMaxNodes()) {
+                    hit = SearchBudget.Limit.NODES;
+                }
+            }
+            if (hit != null) {
+                return SearchResult.budgetExhausted(hit,
+                        new SearchStats(expanded, arena.size(), peakOpen, System.nanoTime() - startNanos));
+            }
+            expanded++;
+
+            // Finish within this round, possibly in fewer plies than a full round.
+            int limit = Math.min(Math.min(round, maxDepth - g), bestCost - g - 1);
+            for (int plies = 0; plies <= limit; plies++) {
+                finishPath[0] = stateId;
+                if (findPlies(space, finishPath, 0, plies, -1, goalR, goalG, goalB, stamp, ++search)) {
+                    bestCost = g + plies;
+                    bestNode = current;
+                    bestFinish = Arrays.copyOf(finishPath, plies + 1);
+                    break;
+                }
+            }
+
+            int nextG = g + round;
+            for (int succId : table.successors(space, stateId)) {
+                int h = heuristic.estimate(space, succId, goalR, goalG, goalB);
+                if (nextG + h > maxDepth || nextG + h >= bestCost || nextG >= bestG[succId]) {
+                    continue;
+                }
+                bestG[succId] = nextG;
+                open.add(arena.add(succId, current, nextG, h));
+                peakOpen = Math.max(peakOpen, open.size());
+            }
+        }
+
+        SearchStats stats = new SearchStats(expanded, arena.size(), peakOpen, System.nanoTime() - startNanos);
+        if (bestNode < 0) {
+            String msg = "No solution found within " + maxDepth + " moves from the initial state.";
+            return new SearchResult(false, Collections.emptyList(), msg, stats);
+        }
+        List<GameState> path = plyPath(space, arena, bestNode, round, stamp, search);
+        for (int i = 1; i < bestFinish.length; i++) {
+            path.add(space.decode(bestFinish[i]));
+        }
+        return new SearchResult(true, path, "Goal found in " + bestCost + " move(s).", stats);
+    }
+
+    /**
+     * Expands the chain of round-start states into single plies by finding,
+     * for each round, one ply sequence between consecutive round starts.
+     */
+    private static List<GameState> plyPath(StateSpace space, NodeArena arena, int node, int round,
+                                           int[] stamp, int search) {
+        List<Integer> rounds = new ArrayList<>();
+        for (int n = node; n != NodeArena.NO_PARENT; n = arena.parent(n)) {
+            rounds.add(arena.stateId(n));
+        }
+        Collections.reverse(rounds);
+        List<GameState> path = new ArrayList<>();
+        path.add(space.decode(rounds.get(0)));
+        int[] plies = new int[round + 1];
+        for (int i = 1; i < rounds.size(); i++) {
+            plies[0] = rounds.get(i - 1);
+            if (!findPlies(space, plies, 0, round, rounds.get(i), -1, -1, -1, stamp, ++search)) {
+                throw new IllegalStateException("Macro edge without a ply sequence");
+            }
+            for (int p = 1; p <= round; p++) {
+                path.add(space.decode(plies[p]));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Depth-first search for exactly {@code remaining} more plies from
+     * path[depth] to the target id, or to the goal cells when targetId is -1.
+     * A state seen at the same depth of this search is not tried twice.
+     */
+    private static boolean findPlies(StateSpace space, int[] path, int depth, int remaining, int targetId,
+                                     int goalR, int goalG, int goalB, int[] stamp, int search) {
+        int id = path[depth];
+        if (remaining == 0) {
+            if (targetId >= 0) {
+                return id == targetId;
+            }
+            return space.rCell(id) == goalR && space.gCell(id) == goalG && space.bCell(id) == goalB;
+        }
+        // Stamps encode (search, remaining plies) so a dead end is not re-entered from another branch.
+        int mark = search * (path.length + 1) + remaining;
+        for (int succ : space.successors(id)) {
+            if (stamp[succ] == mark) {
+                continue;
+            }
+            stamp[succ] = mark;
+            path[depth + 1] = succ;
+            if (findPlies(space, path, depth + 1, remaining - 1, targetId, goalR, goalG, goalB, stamp, search)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MacroTable tableFor(StateSpace space) {
+        MacroTable table = TABLES.get(space.getRules());
+        if (table == null) {
+            MacroTable created = new MacroTable(space.stateCount());
+            table = TABLES.putIfAbsent(space.getRules(), created);
+            if (table == null) {
+                table = created;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Round-level successors per state id, computed on first use of each id
+     * by expanding one round ply by ply with deduplicated layers.
+     */
+    private static final class MacroTable {
+
+        private final AtomicReferenceArray<int[]> successors;
+
+        MacroTable(int stateCount) {
+            successors = new AtomicReferenceArray<>(stateCount);
+        }
+
+        int[] successors(StateSpace space, int id) {
+            int[] succ = successors.get(id);
+            if (succ == null) {
+                succ = compute(space, id);
+                successors.compareAndSet(id, null, succ);
+            }
+            return succ;
+        }
+
+        private static int[] compute(StateSpace space, int id) {
+            int round = space.getRules().turnCount();
+            boolean[] seen = new boolean[space.stateCount()];
+            int[] layer = {id};
+            int size = 1;
+            for (int ply = 0; ply < round; ply++) {
+                int[] next = new int[Math.max(8, size * 8)];
+                int nextSize = 0;
+                for (int i = 0; i < size; i++) {
+                    for (int succ : space.successors(layer[i])) {
+                        if (!seen[succ]) {
+                            seen[succ] = true;
+                            if (nextSize == next.length) {
+                                next = Arrays.copyOf(next, nextSize * 2);
+                            }
+                            next[nextSize++] = succ;
+                        }
+                    }
+                }
+                // Layers hold different turns, so clearing only this layer's marks is enough.
+                for (int i = 0; i < nextSize; i++) {
+                    seen[next[i]] = false;
+                }
+                layer = next;
+                size = nextSize;
+            }
+            return Arrays.copyOf(layer, size);
+        }
+    }
+}
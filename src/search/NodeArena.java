@@ -0,0 +1,75 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for search nodes.
+ *
+ * Each node is an index into parallel primitive arrays (state id, parent index,
+ * g and h) instead of an object, so a node costs 16 bytes and keeps nothing else
+ * reachable. Storage grows in fixed-size chunks, so existing entries are never copied.
+ */
+final class NodeArena {
+
+    static final int NO_PARENT = -1;
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int[][] stateIds = new int[4][];
+    private int[][] parents = new int[4][];
+    private int[][] gCosts = new int[4][];
+    private int[][] hCosts = new int[4][];
+    private int size;
+
+    /**
+     * Appends a node and returns its index.
+     */
+    int add(int stateId, int parent, int g, int h) {
+        int chunk = size >>> CHUNK_BITS;
+        if (chunk == stateIds.length) {
+            int newLength = stateIds.length * 2;
+            stateIds = Arrays.copyOf(stateIds, newLength);
+            parents = Arrays.copyOf(parents, newLength);
+            gCosts = Arrays.copyOf(gCosts, newLength);
+            hCosts = Arrays.copyOf(hCosts, newLength);
+        }
+        if (stateIds[chunk] == null) {
+            stateIds[chunk] = new int[CHUNK_SIZE];
+            parents[chunk] = new int[CHUNK_SIZE];
+            gCosts[chunk] = new int[CHUNK_SIZE];
+            hCosts[chunk] = new int[CHUNK_SIZE];
+        }
+        int offset = size & CHUNK_MASK;
+        stateIds[chunk][offset] = stateId;
+        parents[chunk][offset] = parent;
+        gCosts[chunk][offset] = g;
+        hCosts[chunk][offset] = h;
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int stateId(int index) {
+        return stateIds[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    int parent(int index) {
+        return parents[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    int g(int index) {
+        return gCosts[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    int h(int index) {
+        return hCosts[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    int f(int index) {
+        return g(index) + h(index);
+    }
+}
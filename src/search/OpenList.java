@@ -0,0 +1,76 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of arena indices, ordered like {@link Node#compareTo}:
+ * lower f first, then lower h, then lower g.
+ */
+final class OpenList {
+
+    private final NodeArena arena;
+    private int[] heap = new int[64];
+    private int size;
+
+    OpenList(NodeArena arena) {
+        this.arena = arena;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int index) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int pos = size++;
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+            if (compare(index, parent) >= 0) {
+                break;
+            }
+            heap[pos] = parent;
+            pos = parentPos;
+        }
+        heap[pos] = index;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    int poll() {
+        int top = heap[0];
+        int last = heap[--size];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (compare(last, heap[child]) <= 0) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = last;
+        return top;
+    }
+
+    private int compare(int a, int b) {
+        int cmp = Integer.compare(arena.f(a), arena.f(b));
+        if (cmp != 0) return cmp;
+        cmp = Integer.compare(arena.h(a), arena.h(b));
+        if (cmp != 0) return cmp;
+        return Integer.compare(arena.g(a), arena.g(b));
+    }
+}
@@ -0,0 +1,61 @@
+package search;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link VisitedStore} packing 2, 4 or 8 bits per state id into a direct
+ * buffer. The all-ones value of a slot means unseen, so a freshly allocated
+ * buffer is filled with 0xFF once; 4 bits cover a g of up to 14, which is
+ * enough for the 3x3 game.
+ */
+final class PackedVisitedStore implements VisitedStore {
+
+    /** Largest g a packed store can hold; the all-ones byte is the unseen marker. */
+    static final int MAX_G = 254;
+
+    private final ByteBuffer bits;
+    private final int bitsPerState;
+    private final int statesPerByte;
+    private final int mask;
+
+    /**
+     * @throws IllegalArgumentException when maxG needs more than 8 bits or the buffer would exceed 2 GB
+     */
+    PackedVisitedStore(long stateCount, int maxG) {
+        if (maxG < 3) {
+            bitsPerState = 2;
+        } else if (maxG < 15) {
+            bitsPerState = 4;
+        } else if (maxG <= MAX_G) {
+            bitsPerState = 8;
+        } else {
+            throw new IllegalArgumentException("A packed store holds g up to " + MAX_G + ", got " + maxG);
+        }
+        statesPerByte = 8 / bitsPerState;
+        mask = (1 << bitsPerState) - 1;
+        long bytes = (stateCount + statesPerByte - 1) / statesPerByte;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many states for one packed buffer: " + stateCount);
+        }
+        bits = ByteBuffer.allocateDirect((int) bytes);
+        for (int i = 0; i < bytes; i++) {
+            bits.put(i, (byte) 0xFF);
+        }
+    }
+
+    @Override
+    public int get(long stateId) {
+        int index = (int) (stateId / statesPerByte);
+        int shift = (int) (stateId % statesPerByte) * bitsPerState;
+        int value = (bits.get(index) >>> shift) & mask;
+        return value == mask ? UNSEEN : value;
+    }
+
+    @Override
+    public void put(long stateId, int g) {
+        int index = (int) (stateId / statesPerByte);
+        int shift = (int) (stateId % statesPerByte) * bitsPerState;
+        int b = bits.get(index) & ~(mask << shift);
+        bits.put(index, (byte) (b | (g << shift)));
+    }
+}
@@ -0,0 +1,258 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Races several engines on the same instance, one per thread, and returns the
+ * first definitive answer. Every member is complete and optimal, so the
+ * first SOLVED or NO_SOLUTION result is the answer; the other members are then
+ * cancelled through their {@link CancellationToken}s.
+ *
+ * The portfolio remembers, per member, how many races it entered and won and
+ * how long its wins took. When there are more members than worker threads,
+ * each race runs the best-ranked members (highest win rate, then fastest
+ * wins; members that never ran rank first), except that every
+ * {@value #EXPLORE_EVERY}th race gives the last slot to one of the members
+ * outside the line-up, taken in turn, so a member that starts winning can
+ * work its way in.
+ */
+public final class PortfolioSolver implements SearchEngine, AutoCloseable {
+
+    // How often the coordinating thread re-checks the caller's deadline and cancellation.
+    private static final long POLL_MILLIS = 5;
+    // Every this many races the last slot goes to a member outside the current top ranks.
+    static final int EXPLORE_EVERY = 8;
+
+    private final List<SearchEngine> members;
+    private final int width;
+    private final ExecutorService executor;
+    private final Map<String, MemberStats> stats = new LinkedHashMap<>();
+    private long races;
+    private int explorationCursor;
+    private volatile String lastWinner;
+
+    public PortfolioSolver() {
+        this(MoveRules.standard());
+    }
+
+    /**
+     * The default line-up: A* with Hamming and with the turn-aware heuristic,
+     * IDA* and bidirectional BFS. It runs on one thread per available core but
+     * always leaves at least one member out of each race, so the ranking picks
+     * the line-up and exploration keeps measuring the benched members.
+     */
+    public PortfolioSolver(MoveRules rules) {
+        this(defaultMembers(rules));
+    }
+
+    private PortfolioSolver(List<SearchEngine> members) {
+        this(members, Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), members.size() - 1)));
+    }
+
+    /**
+     * @param threads maximum number of members run at the same time
+     */
+    public PortfolioSolver(List<SearchEngine> members, int threads) {
+        if (members.isEmpty() || threads < 1) {
+            throw new IllegalArgumentException("A portfolio needs at least one member and one thread");
+        }
+        this.members = new ArrayList<>(members);
+        this.width = Math.min(threads, members.size());
+        for (SearchEngine member : members) {
+            stats.put(member.getName(), new MemberStats());
+        }
+        this.executor = Executors.newFixedThreadPool(width, new ThreadFactory() {
+            private int next;
+
+            @Override
+            public synchronized Thread newThread(Runnable task) {
+                Thread t = new Thread(task, "Portfolio-" + next++);
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    private static List<SearchEngine> defaultMembers(MoveRules rules) {
+        return Arrays.asList(Engines.aStar(rules), Engines.aStar(rules, Heuristics.Kind.TURN_AWARE),
+                new IdaStarSolver(rules), new BidirectionalSolver(rules));
+    }
+
+    @Override
+    public String getName() {
+        return "portfolio";
+    }
+
+    /**
+     * Name of the member that produced the last answer, or null.
+     */
+    public String getLastWinner() {
+        return lastWinner;
+    }
+
+    /**
+     * Races won per member, in line-up order.
+     */
+    public synchronized Map<String, Long> getWinCounts() {
+        Map<String, Long> wins = new LinkedHashMap<>();
+        for (Map.Entry<String, MemberStats> e : stats.entrySet()) {
+            wins.put(e.getKey(), e.getValue().won);
+        }
+        return wins;
+    }
+
+    /**
+     * Races entered per member, in line-up order.
+     */
+    public synchronized Map<String, Long> getEntryCounts() {
+        Map<String, Long> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, MemberStats> e : stats.entrySet()) {
+            entries.put(e.getKey(), e.getValue().entered);
+        }
+        return entries;
+    }
+
+    @Override
+    public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        return race(initial, goal, maxDepth, budget);
+    }
+
+    private SearchResult race(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        long startNanos = System.nanoTime();
+        List<SearchEngine> lineUp = chooseLineUp();
+        CompletionService<Entry> completion = new ExecutorCompletionService<>(executor);
+        List<CancellationToken> tokens = new ArrayList<>();
+        for (SearchEngine member : lineUp) {
+            CancellationToken token = new CancellationToken();
+            tokens.add(token);
+            SearchBudget memberBudget = budget.withCancellation(token);
+            completion.submit(() -> new Entry(member.getName(),
+                    member.solveUnrecorded(initial, goal, maxDepth, memberBudget)));
+        }
+
+        SearchResult fallback = null;
+        try {
+            int pending = lineUp.size();
+            while (pending > 0) {
+                Future<Entry> done = completion.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    SearchBudget.Limit hit = budget.checkClock(startNanos);
+                    if (hit != null) {
+                        // Members see their own deadline; the caller's cancellation reaches them through us.
+                        cancelAll(tokens);
+                    }
+                    continue;
+                }
+                pending--;
+                Entry entry = done.get();
+                if (entry.result.getStatus() != SearchResult.Status.BUDGET_EXHAUSTED) {
+                    recordWin(entry.name, entry.result.getStats().getElapsedNanos());
+                    return entry.result;
+                }
+                fallback = entry.result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(tokens);
+            return SearchResult.budgetExhausted(SearchBudget.Limit.CANCELLED,
+                    new SearchStats(0, 0, 0, System.nanoTime() - startNanos));
+        } catch (ExecutionException e) {
+            cancelAll(tokens);
+            throw new IllegalStateException("Portfolio member failed", e.getCause());
+        } finally {
+            cancelAll(tokens);
+        }
+        lastWinner = null;
+        return fallback;
+    }
+
+    private synchronized List<SearchEngine> chooseLineUp() {
+        List<SearchEngine> lineUp;
+        if (width == members.size()) {
+            lineUp = members;
+        } else {
+            List<SearchEngine> ranked = new ArrayList<>(members);
+            // Stable sort: ties keep the line-up order.
+            ranked.sort((a, b) -> stats.get(a.getName()).compareTo(stats.get(b.getName())));
+            lineUp = new ArrayList<>(ranked.subList(0, width));
+            if (++races % EXPLORE_EVERY == 0) {
+                List<SearchEngine> rest = ranked.subList(width, ranked.size());
+                lineUp.set(width - 1, rest.get(explorationCursor++ % rest.size()));
+            }
+        }
+        for (SearchEngine member : lineUp) {
+            stats.get(member.getName()).entered++;
+        }
+        return lineUp;
+    }
+
+    private synchronized void recordWin(String name, long elapsedNanos) {
+        MemberStats s = stats.get(name);
+        s.won++;
+        s.winNanos += elapsedNanos;
+        lastWinner = name;
+    }
+
+    private static void cancelAll(List<CancellationToken> tokens) {
+        for (CancellationToken token : tokens) {
+            token.cancel();
+        }
+    }
+
+    /**
+     * Stops the worker threads; searches still running are cancelled by their budgets only.
+     * The shared instances handed out by {@link Engines} must not be closed.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Race record of one member; orders better members first.
+     */
+    private static final class MemberStats implements Comparable<MemberStats> {
+        long entered;
+        long won;
+        long winNanos;
+
+        @Override
+        public int compareTo(MemberStats other) {
+            // Untried members compare as perfect so they get a first run.
+            double rate = entered == 0 ? 1.0 : (double) won / entered;
+            double otherRate = other.entered == 0 ? 1.0 : (double) other.won / other.entered;
+            if (rate != otherRate) {
+                return rate > otherRate ? -1 : 1;
+            }
+            double mean = won == 0 ? 0 : (double) winNanos / won;
+            double otherMean = other.won == 0 ? 0 : (double) other.winNanos / other.won;
+            return Double.compare(mean, otherMean);
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final SearchResult result;
+
+        Entry(String name, SearchResult result) {
+            this.name = name;
+            this.result = result;
+        }
+    }
+
+}
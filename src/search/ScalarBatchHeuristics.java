@@ -0,0 +1,42 @@
+package search;
+
+/**
+ * Plain loop implementation of {@link BatchHeuristics}, used when the Vector API is unavailable.
+ */
+final class ScalarBatchHeuristics implements BatchHeuristics {
+
+    static final ScalarBatchHeuristics INSTANCE = new ScalarBatchHeuristics();
+
+    @Override
+    public void hamming(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out) {
+        hammingRange(r, g, b, 0, count, goalR, goalG, goalB, out);
+    }
+
+    @Override
+    public void chebyshev(int[] r, int[] g, int[] b, int count, int goalR, int goalG, int goalB, int[] out) {
+        chebyshevRange(r, g, b, 0, count, goalR, goalG, goalB, out);
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    static void hammingRange(int[] r, int[] g, int[] b, int from, int to,
+                             int goalR, int goalG, int goalB, int[] out) {
+        for (int i = from; i < to; i++) {
+            out[i] = (r[i] != goalR ? 1 : 0) + (g[i] != goalG ? 1 : 0) + (b[i] != goalB ? 1 : 0);
+        }
+    }
+
+    static void chebyshevRange(int[] r, int[] g, int[] b, int from, int to,
+                               int goalR, int goalG, int goalB, int[] out) {
+        for (int i = from; i < to; i++) {
+            out[i] = chebyshev(r[i], goalR) + chebyshev(g[i], goalG) + chebyshev(b[i], goalB);
+        }
+    }
+
+    static int chebyshev(int cell, int goalCell) {
+        return StandardTables.cellDistance(cell, goalCell);
+    }
+}
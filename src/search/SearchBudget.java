@@ -0,0 +1,102 @@
+package search;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call resource limits for a search: wall-clock timeout, number of
+ * expansions, number of stored nodes, and an optional cancellation token.
+ *
+ * Budgets are immutable; the {@code with...} methods return a copy with one
+ * limit changed. The timeout starts counting when the search starts.
+ */
+public final class SearchBudget {
+
+    /**
+     * Which limit stopped a search early.
+     */
+    public enum Limit {
+        DEADLINE, EXPANSIONS, NODES, CANCELLED
+    }
+
+    private static final SearchBudget UNLIMITED = new SearchBudget(0, Long.MAX_VALUE, Long.MAX_VALUE, null);
+
+    private final long timeoutNanos;
+    private final long maxExpansions;
+    private final long maxNodes;
+    private final CancellationToken cancellation;
+
+    private SearchBudget(long timeoutNanos, long maxExpansions, long maxNodes, CancellationToken cancellation) {
+        this.timeoutNanos = timeoutNanos;
+        this.maxExpansions = maxExpansions;
+        this.maxNodes = maxNodes;
+        this.cancellation = cancellation;
+    }
+
+    public static SearchBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    public SearchBudget withTimeout(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        return new SearchBudget(unit.toNanos(timeout), maxExpansions, maxNodes, cancellation);
+    }
+
+    public SearchBudget withMaxExpansions(long max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Expansion limit must be positive");
+        }
+        return new SearchBudget(timeoutNanos, max, maxNodes, cancellation);
+    }
+
+    /**
+     * Caps the number of nodes the search may store, which bounds its memory.
+     */
+    public SearchBudget withMaxNodes(long max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Node limit must be positive");
+        }
+        return new SearchBudget(timeoutNanos, maxExpansions, max, cancellation);
+    }
+
+    public SearchBudget withCancellation(CancellationToken token) {
+        return new SearchBudget(timeoutNanos, maxExpansions, maxNodes, token);
+    }
+
+    public boolean hasTimeout() {
+        return timeoutNanos > 0;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public long getMaxExpansions() {
+        return maxExpansions;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public CancellationToken getCancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Checks the time and cancellation limits, which are more expensive to poll
+     * than the counters, so searches call this every few dozen expansions.
+     *
+     * @return the limit that was hit, or null when the search may continue
+     */
+    Limit checkClock(long startNanos) {
+        if (cancellation != null && cancellation.isCancelled()) {
+            return Limit.CANCELLED;
+        }
+        if (timeoutNanos > 0 && System.nanoTime() - startNanos >= timeoutNanos) {
+            return Limit.DEADLINE;
+        }
+        return null;
+    }
+}
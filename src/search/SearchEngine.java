@@ -0,0 +1,32 @@
+package search;
+
+import model.GameState;
+
+/**
+ * A headless solver configuration that can be run on any (initial, goal) pair.
+ * Used by the batch tools to compare engines on the same instances.
+ */
+public interface SearchEngine {
+
+    String getName();
+
+    default SearchResult solve(GameState initial, GameState goal, int maxDepth) {
+        return solve(initial, goal, maxDepth, SearchBudget.unlimited());
+    }
+
+    /**
+     * Runs the search and records the result into {@link SolverMetrics#global()}.
+     */
+    default SearchResult solve(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+        SearchResult result = solveUnrecorded(initial, goal, maxDepth, budget);
+        SolverMetrics.global().record(result);
+        return result;
+    }
+
+    /**
+     * Runs the search without recording it. For callers that run an engine on
+     * someone else's behalf, such as a portfolio racing its members or a
+     * background solve, and record the outcome themselves if at all.
+     */
+    SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget);
+}
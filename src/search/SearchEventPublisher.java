@@ -0,0 +1,374 @@
+package search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the expansions of a search as a {@link Flow.Publisher} of event
+ * batches, so consumers (metrics, trace writers, remote viewers) run on their
+ * own threads instead of inside the solver loop.
+ *
+ * Attach it to a solver as its {@link SearchListener}. Events are collected
+ * into batches on the search thread; each full batch is handed to every
+ * subscription's bounded buffer and delivered on the executor as the
+ * subscriber requests it. What happens when a subscriber falls behind and
+ * its buffer is full is chosen per subscription, see {@link Overflow}.
+ *
+ * The listener side ({@code onNodeExpanded}, {@link #flush}, {@link #close})
+ * has a single producer: the search thread. {@link #close} flushes the last
+ * partial batch and completes every subscriber.
+ */
+public final class SearchEventPublisher implements Flow.Publisher<List<ExpansionEvent>>, SearchListener,
+        AutoCloseable {
+
+    /**
+     * What to do with a new batch when a subscriber's buffer is full.
+     */
+    public enum Overflow {
+        /** Discard the new batch; the search never waits. */
+        DROP,
+        /**
+         * Thin the buffer instead of dropping the new batch: every overflow
+         * halves the sampling rate, and buffered and incoming events alike are
+         * kept only when their sequence number is a multiple of the sampling
+         * stride. The subscriber still sees the whole search, evenly thinned;
+         * the stride returns to 1 once the subscriber has emptied its buffer.
+         */
+        SAMPLE,
+        /** Make the search thread wait until the subscriber catches up. */
+        BLOCK
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final int DEFAULT_BUFFER_BATCHES = 16;
+
+    private final Executor executor;
+    private final int batchSize;
+    private final List<Sub> subscriptions = new CopyOnWriteArrayList<>();
+    private List<ExpansionEvent> batch;
+    private long sequence;
+    private volatile boolean closed;
+
+    public SearchEventPublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param executor  runs the deliveries to subscribers
+     * @param batchSize events per delivered batch
+     */
+    public SearchEventPublisher(Executor executor, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes with {@link Overflow#DROP} and a buffer of
+     * {@value #DEFAULT_BUFFER_BATCHES} batches.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<ExpansionEvent>> subscriber) {
+        subscribe(subscriber, Overflow.DROP, DEFAULT_BUFFER_BATCHES);
+    }
+
+    /**
+     * @param bufferBatches batches buffered for this subscriber before the overflow policy applies
+     */
+    public void subscribe(Flow.Subscriber<? super List<ExpansionEvent>> subscriber, Overflow overflow,
+                          int bufferBatches) {
+        Objects.requireNonNull(subscriber);
+        Objects.requireNonNull(overflow);
+        if (bufferBatches < 1) {
+            throw new IllegalArgumentException("Buffer must hold at least one batch, got " + bufferBatches);
+        }
+        Sub sub = new Sub(subscriber, overflow, bufferBatches);
+        subscriptions.add(sub);
+        if (closed) {
+            sub.complete();
+        } else {
+            sub.signal();
+        }
+    }
+
+    @Override
+    public void onNodeExpanded(Node chosen, List<Node> successors) {
+        if (closed) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+        long seq = sequence++;
+        if (subscriptions.isEmpty()) {
+            // Nobody listens: keep the numbering, skip the copying.
+            return;
+        }
+        if (batch == null) {
+            batch = new ArrayList<>(batchSize);
+        }
+        batch.add(new ExpansionEvent(seq, chosen, successors));
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the current partial batch to the subscribers.
+     */
+    public void flush() {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        List<ExpansionEvent> full = Collections.unmodifiableList(batch);
+        batch = null;
+        for (Sub sub : subscriptions) {
+            sub.offer(full);
+        }
+    }
+
+    /**
+     * Flushes and completes every subscriber once its buffer is drained.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        for (Sub sub : subscriptions) {
+            sub.complete();
+        }
+    }
+
+    /**
+     * Events dropped or thinned out so far, over all subscribers.
+     */
+    public long getDroppedEvents() {
+        long total = 0;
+        for (Sub sub : subscriptions) {
+            total += sub.dropped();
+        }
+        return total;
+    }
+
+    /**
+     * One subscriber's buffer and demand. Deliveries are serialized by a
+     * work-in-progress counter, so at most one executor task signals the
+     * subscriber at a time; the buffer, demand and flags are guarded by the
+     * subscription's monitor, which blocked producers also wait on.
+     */
+    private final class Sub implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super List<ExpansionEvent>> subscriber;
+        private final Overflow overflow;
+        private final int capacity;
+        private final ArrayDeque<List<ExpansionEvent>> queue = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private long requested;
+        private long dropped;
+        // SAMPLE only: events are kept when sequence % stride == 0.
+        private long stride = 1;
+        private boolean completed;
+        private boolean cancelled;
+        private IllegalArgumentException badRequest;
+        // Touched by the delivery task only.
+        private boolean subscribed;
+        private boolean terminated;
+
+        Sub(Flow.Subscriber<? super List<ExpansionEvent>> subscriber, Overflow overflow, int capacity) {
+            this.subscriber = subscriber;
+            this.overflow = overflow;
+            this.capacity = capacity;
+        }
+
+        void offer(List<ExpansionEvent> events) {
+            synchronized (this) {
+                if (stride > 1) {
+                    events = thin(events);
+                    if (events.isEmpty()) {
+                        return;
+                    }
+                }
+                while (!cancelled && queue.size() >= capacity) {
+                    if (overflow == Overflow.DROP) {
+                        dropped += events.size();
+                        return;
+                    }
+                    if (overflow == Overflow.SAMPLE) {
+                        events = halveSamplingRate(events);
+                        break;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped += events.size();
+                        return;
+                    }
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (!events.isEmpty()) {
+                    queue.addLast(events);
+                }
+            }
+            signal();
+        }
+
+        /**
+         * Doubles the stride, thins every buffered batch and the incoming one
+         * to it and merges buffered batches pairwise to make room. With a
+         * one-batch buffer there is nothing to pair, so the incoming events
+         * join the buffered batch instead.
+         *
+         * @return the thinned incoming events, empty once merged into the buffer
+         */
+        private List<ExpansionEvent> halveSamplingRate(List<ExpansionEvent> events) {
+            if (stride <= Long.MAX_VALUE / 2) {
+                stride *= 2;
+            }
+            List<List<ExpansionEvent>> thinned = new ArrayList<>(queue.size());
+            for (List<ExpansionEvent> buffered : queue) {
+                thinned.add(thin(buffered));
+            }
+            queue.clear();
+            for (int i = 0; i < thinned.size(); i += 2) {
+                queue.addLast(i + 1 < thinned.size() ? concat(thinned.get(i), thinned.get(i + 1)) : thinned.get(i));
+            }
+            events = thin(events);
+            if (queue.size() >= capacity) {
+                queue.addLast(concat(queue.pollLast(), events));
+                return Collections.emptyList();
+            }
+            return events;
+        }
+
+        private List<ExpansionEvent> thin(List<ExpansionEvent> events) {
+            List<ExpansionEvent> kept = new ArrayList<>();
+            for (ExpansionEvent e : events) {
+                if (e.getSequence() % stride == 0) {
+                    kept.add(e);
+                }
+            }
+            dropped += events.size() - kept.size();
+            return Collections.unmodifiableList(kept);
+        }
+
+        private List<ExpansionEvent> concat(List<ExpansionEvent> first, List<ExpansionEvent> second) {
+            List<ExpansionEvent> joined = new ArrayList<>(first.size() + second.size());
+            joined.addAll(first);
+            joined.addAll(second);
+            return Collections.unmodifiableList(joined);
+        }
+
+        void complete() {
+            synchronized (this) {
+                completed = true;
+                notifyAll();
+            }
+            signal();
+        }
+
+        synchronized long dropped() {
+            return dropped;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    badRequest = new IllegalArgumentException("Requested " + n + " batches; demand must be positive");
+                } else {
+                    requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                }
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                queue.clear();
+                notifyAll();
+            }
+            subscriptions.remove(this);
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!terminated) {
+                List<ExpansionEvent> next = null;
+                IllegalArgumentException error = null;
+                boolean done = false;
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (badRequest != null) {
+                        error = badRequest;
+                    } else if (requested > 0 && !queue.isEmpty()) {
+                        next = queue.pollFirst();
+                        if (requested != Long.MAX_VALUE) {
+                            requested--;
+                        }
+                        if (queue.isEmpty()) {
+                            // Caught up: sample at full rate again.
+                            stride = 1;
+                        }
+                        notifyAll();
+                    } else {
+                        done = completed && queue.isEmpty();
+                    }
+                }
+                if (error != null) {
+                    cancel();
+                    terminated = true;
+                    subscriber.onError(error);
+                } else if (next != null) {
+                    try {
+                        subscriber.onNext(next);
+                    } catch (RuntimeException e) {
+                        // A throwing subscriber is treated as having cancelled.
+                        cancel();
+                        return;
+                    }
+                } else {
+                    if (done) {
+                        terminated = true;
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
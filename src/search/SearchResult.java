@@ -10,14 +10,60 @@ import java.util.List;
  */
 public class SearchResult {
 
+    /**
+     * How a search ended. NO_SOLUTION means the whole space within the move
+     * limit was searched; BUDGET_EXHAUSTED means it stopped early and the
+     * answer is unknown.
+     */
+    public enum Status {
+        SOLVED, NO_SOLUTION, BUDGET_EXHAUSTED
+    }
+
+    private final Status status;
+    private final SearchBudget.Limit exhaustedLimit;
     private final boolean solved;
     private final List<GameState> path;
     private final String message;
+    private final SearchStats stats;
+    private SolutionDag solutionDag;
+    private Infeasibility infeasibility;
 
     public SearchResult(boolean solved, List<GameState> path, String message) {
-        this.solved = solved;
+        this(solved, path, message, SearchStats.EMPTY);
+    }
+
+    public SearchResult(boolean solved, List<GameState> path, String message, SearchStats stats) {
+        this(solved ? Status.SOLVED : Status.NO_SOLUTION, path, message, stats, null);
+    }
+
+    public SearchResult(Status status, List<GameState> path, String message, SearchStats stats,
+                        SearchBudget.Limit exhaustedLimit) {
+        this.status = status;
+        this.exhaustedLimit = exhaustedLimit;
+        this.solved = status == Status.SOLVED;
         this.path = path == null ? Collections.emptyList() : path;
         this.message = message;
+        this.stats = stats == null ? SearchStats.EMPTY : stats;
+    }
+
+    /**
+     * Result for a search stopped by its budget, carrying the partial statistics.
+     */
+    public static SearchResult budgetExhausted(SearchBudget.Limit limit, SearchStats stats) {
+        String msg = "Search stopped early (" + limit.name().toLowerCase() + " limit reached) after "
+                + stats.getExpandedNodes() + " expansion(s); no answer within the budget.";
+        return new SearchResult(Status.BUDGET_EXHAUSTED, null, msg, stats, limit);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * The limit that stopped the search, or null unless the status is BUDGET_EXHAUSTED.
+     */
+    public SearchBudget.Limit getExhaustedLimit() {
+        return exhaustedLimit;
     }
 
     public boolean isSolved() {
@@ -31,4 +77,49 @@ public class SearchResult {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * Number of moves on the solution path, or -1 when unsolved.
+     */
+    public int getCost() {
+        return solved ? path.size() - 1 : -1;
+    }
+
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /**
+     * All optimal solutions, or null unless the search was asked to keep them.
+     */
+    public SolutionDag getSolutionDag() {
+        return solutionDag;
+    }
+
+    /**
+     * Why there is no solution within the limit, or null. Only bounded
+     * searches report it, and only with status NO_SOLUTION.
+     */
+    public Infeasibility getInfeasibility() {
+        return infeasibility;
+    }
+
+    SearchResult withSolutionDag(SolutionDag dag) {
+        SearchResult copy = copy();
+        copy.solutionDag = dag;
+        return copy;
+    }
+
+    SearchResult withInfeasibility(Infeasibility reason) {
+        SearchResult copy = copy();
+        copy.infeasibility = reason;
+        return copy;
+    }
+
+    private SearchResult copy() {
+        SearchResult copy = new SearchResult(status, path, message, stats, exhaustedLimit);
+        copy.solutionDag = solutionDag;
+        copy.infeasibility = infeasibility;
+        return copy;
+    }
 }
@@ -0,0 +1,43 @@
+package search;
+
+/**
+ * Work counters collected while a search runs.
+ */
+public class SearchStats {
+
+    public static final SearchStats EMPTY = new SearchStats(0, 0, 0, 0);
+
+    private final long expandedNodes;
+    private final long generatedNodes;
+    private final int peakOpenSize;
+    private final long elapsedNanos;
+
+    public SearchStats(long expandedNodes, long generatedNodes, int peakOpenSize, long elapsedNanos) {
+        this.expandedNodes = expandedNodes;
+        this.generatedNodes = generatedNodes;
+        this.peakOpenSize = peakOpenSize;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public long getGeneratedNodes() {
+        return generatedNodes;
+    }
+
+    public int getPeakOpenSize() {
+        return peakOpenSize;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "expanded=" + expandedNodes + ", generated=" + generatedNodes
+                + ", peakOpen=" + peakOpenSize + ", elapsedMs=" + elapsedNanos / 1_000_000.0;
+    }
+}
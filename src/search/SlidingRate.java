@@ -0,0 +1,85 @@
+package search;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event rate over a sliding window of whole seconds.
+ *
+ * A ring holds one {@link LongAdder} per second of the window, tagged with
+ * the second it counts. Recording increments the current second's bucket;
+ * the first event of a new second takes the slot's lock once to clear what
+ * the slot counted a full window ago. Times are {@link System#nanoTime}
+ * values passed in by the caller.
+ */
+final class SlidingRate {
+
+    private static final long SECOND_NANOS = 1_000_000_000L;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final int seconds;
+    private final LongAdder[] counts;
+    private final AtomicLongArray tags;
+    private volatile long sinceNanos;
+
+    SlidingRate(int seconds, long nowNanos) {
+        if (seconds < 1) {
+            throw new IllegalArgumentException("seconds must be positive: " + seconds);
+        }
+        this.seconds = seconds;
+        this.counts = new LongAdder[seconds];
+        this.tags = new AtomicLongArray(seconds);
+        for (int i = 0; i < seconds; i++) {
+            counts[i] = new LongAdder();
+            tags.set(i, NONE);
+        }
+        this.sinceNanos = nowNanos;
+    }
+
+    void record(long nowNanos) {
+        long second = Math.floorDiv(nowNanos, SECOND_NANOS);
+        int slot = (int) Math.floorMod(second, (long) seconds);
+        if (tags.get(slot) != second) {
+            roll(slot, second);
+        }
+        counts[slot].increment();
+    }
+
+    private void roll(int slot, long second) {
+        synchronized (counts[slot]) {
+            // Cleared before the new tag is published, so no event of this second is lost.
+            if (tags.get(slot) < second) {
+                counts[slot].reset();
+                tags.set(slot, second);
+            }
+        }
+    }
+
+    /**
+     * Events per second over the window ending now, or since the last reset
+     * if that is more recent.
+     */
+    double perSecond(long nowNanos) {
+        long second = Math.floorDiv(nowNanos, SECOND_NANOS);
+        long first = second - seconds + 1;
+        long total = 0;
+        for (int i = 0; i < seconds; i++) {
+            long tag = tags.get(i);
+            if (tag >= first && tag <= second) {
+                total += counts[i].sum();
+            }
+        }
+        long span = nowNanos - Math.max(first * SECOND_NANOS, sinceNanos);
+        return span <= 0 ? 0 : total * (double) SECOND_NANOS / span;
+    }
+
+    void reset(long nowNanos) {
+        for (int i = 0; i < seconds; i++) {
+            synchronized (counts[i]) {
+                tags.set(i, NONE);
+                counts[i].reset();
+            }
+        }
+        sinceNanos = nowNanos;
+    }
+}
@@ -0,0 +1,279 @@
+package search;
+
+import model.GameState;
+import model.Position;
+import model.TileColor;
+
+import java.util.*;
+
+/**
+ * All optimal solutions of one instance, stored as a DAG of states.
+ *
+ * Every path from the root to a goal node is an optimal move sequence. The
+ * number of such paths can grow exponentially with the cost, so paths are
+ * counted by dynamic programming and enumerated lazily instead of being
+ * materialized.
+ */
+public final class SolutionDag {
+
+    private final GameState[] states;
+    private final int[][] next;
+    private final boolean[] goal;
+    private final long[] pathCounts;
+    private final int cost;
+
+    private SolutionDag(GameState[] states, int[][] next, boolean[] goal, int cost) {
+        this.states = states;
+        this.next = next;
+        this.goal = goal;
+        this.cost = cost;
+        this.pathCounts = computePathCounts();
+    }
+
+    /**
+     * Builds the DAG backwards from the optimal goal states through the
+     * equal-cost parent links recorded by the search. Node 0 is the start.
+     */
+    static SolutionDag build(StateSpace space, Links links, int startId, List<Integer> goalIds, int cost) {
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        List<Integer> order = new ArrayList<>();
+        Map<Integer, List<Integer>> reverseEdges = new HashMap<>();
+        Deque<Integer> queue = new ArrayDeque<>(goalIds);
+        Set<Integer> seen = new HashSet<>(goalIds);
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            order.add(s);
+            for (int link = links.head(s); link != Links.NONE; link = links.next(link)) {
+                int p = links.parent(link);
+                reverseEdges.computeIfAbsent(p, k -> new ArrayList<>()).add(s);
+                if (seen.add(p)) {
+                    queue.add(p);
+                }
+            }
+        }
+        // Breadth-first from the goals visits nodes by decreasing depth; reverse for root-first order.
+        Collections.reverse(order);
+        if (order.get(0) != startId) {
+            throw new IllegalStateException("Solution DAG is not rooted at the start state");
+        }
+        for (int i = 0; i < order.size(); i++) {
+            indexOf.put(order.get(i), i);
+        }
+
+        GameState[] states = new GameState[order.size()];
+        int[][] next = new int[order.size()][];
+        boolean[] goal = new boolean[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            int s = order.get(i);
+            states[i] = space.decode(s);
+            List<Integer> succ = reverseEdges.getOrDefault(s, Collections.emptyList());
+            next[i] = new int[succ.size()];
+            for (int j = 0; j < succ.size(); j++) {
+                next[i][j] = indexOf.get(succ.get(j));
+            }
+        }
+        for (int g : goalIds) {
+            goal[indexOf.get(g)] = true;
+        }
+        return new SolutionDag(states, next, goal, cost);
+    }
+
+    private long[] computePathCounts() {
+        // Nodes are in root-first order, so a reverse sweep sees successors first.
+        long[] counts = new long[states.length];
+        for (int i = states.length - 1; i >= 0; i--) {
+            long c = goal[i] ? 1 : 0;
+            for (int j : next[i]) {
+                c = saturatedAdd(c, counts[j]);
+            }
+            counts[i] = c;
+        }
+        return counts;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Optimal number of moves.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Number of distinct states on at least one optimal path.
+     */
+    public int getStateCount() {
+        return states.length;
+    }
+
+    /**
+     * Number of distinct optimal move sequences (saturates at Long.MAX_VALUE).
+     */
+    public long countPaths() {
+        return pathCounts[0];
+    }
+
+    /**
+     * Lazily enumerates every optimal path; each call to next() walks one path.
+     */
+    public Iterable<List<GameState>> paths() {
+        return PathIterator::new;
+    }
+
+    /**
+     * The optimal path on which the given tile moves the fewest times.
+     */
+    public List<GameState> pathMinimizingMoves(TileColor tile) {
+        int[] best = new int[states.length];
+        int[] choice = new int[states.length];
+        for (int i = states.length - 1; i >= 0; i--) {
+            best[i] = goal[i] ? 0 : Integer.MAX_VALUE;
+            choice[i] = -1;
+            for (int j : next[i]) {
+                if (best[j] == Integer.MAX_VALUE) {
+                    continue;
+                }
+                int moves = best[j] + (positionOf(states[i], tile).equals(positionOf(states[j], tile)) ? 0 : 1);
+                if (moves < best[i]) {
+                    best[i] = moves;
+                    choice[i] = j;
+                }
+            }
+        }
+        List<GameState> path = new ArrayList<>();
+        for (int i = 0; i != -1; i = choice[i]) {
+            path.add(states[i]);
+        }
+        return path;
+    }
+
+    private static Position positionOf(GameState s, TileColor tile) {
+        switch (tile) {
+            case R:
+                return s.getRPos();
+            case G:
+                return s.getGPos();
+            case B:
+            default:
+                return s.getBPos();
+        }
+    }
+
+    /**
+     * Depth-first walk with an explicit stack of (node, next edge) pairs.
+     */
+    private final class PathIterator implements Iterator<List<GameState>> {
+
+        private final int[] nodeStack = new int[cost + 1];
+        private final int[] edgeStack = new int[cost + 1];
+        private int depth;
+        private boolean ready;
+
+        PathIterator() {
+            nodeStack[0] = 0;
+            edgeStack[0] = 0;
+            depth = 0;
+            ready = goal[0] && cost == 0;
+            if (!ready) {
+                advance();
+            }
+        }
+
+        private void advance() {
+            ready = false;
+            while (depth >= 0) {
+                int node = nodeStack[depth];
+                if (edgeStack[depth] < next[node].length) {
+                    int child = next[node][edgeStack[depth]++];
+                    depth++;
+                    nodeStack[depth] = child;
+                    edgeStack[depth] = 0;
+                    if (goal[child]) {
+                        ready = true;
+                        return;
+                    }
+                } else {
+                    depth--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return ready;
+        }
+
+        @Override
+        public List<GameState> next() {
+            if (!ready) {
+                throw new NoSuchElementException();
+            }
+            List<GameState> path = new ArrayList<>(depth + 1);
+            for (int i = 0; i <= depth; i++) {
+                path.add(states[nodeStack[i]]);
+            }
+            if (depth == 0) {
+                depth = -1;
+                ready = false;
+            } else {
+                // Goal nodes are sinks, so backtrack before looking for the next path.
+                depth--;
+                advance();
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Equal-cost parent links recorded during the search, as intrusive linked
+     * lists in primitive arrays: one list head per state id.
+     */
+    static final class Links {
+
+        static final int NONE = -1;
+
+        private final int[] heads;
+        private int[] parents = new int[256];
+        private int[] nexts = new int[256];
+        private int size;
+
+        Links(int stateCount) {
+            heads = new int[stateCount];
+            Arrays.fill(heads, NONE);
+        }
+
+        /**
+         * A strictly better path to the state was found: drop its old parents.
+         */
+        void reset(int stateId, int parentId) {
+            heads[stateId] = NONE;
+            add(stateId, parentId);
+        }
+
+        void add(int stateId, int parentId) {
+            if (size == parents.length) {
+                parents = Arrays.copyOf(parents, size * 2);
+                nexts = Arrays.copyOf(nexts, size * 2);
+            }
+            parents[size] = parentId;
+            nexts[size] = heads[stateId];
+            heads[stateId] = size++;
+        }
+
+        int head(int stateId) {
+            return heads[stateId];
+        }
+
+        int next(int link) {
+            return nexts[link];
+        }
+
+        int parent(int link) {
+            return parents[link];
+        }
+    }
+}
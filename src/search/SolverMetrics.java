@@ -0,0 +1,176 @@
+package search;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide solver metrics, registered as the JMX MBean
+ * {@value #OBJECT_NAME} so they can be read with jconsole or any JMX client.
+ *
+ * Every finished search calls {@link #record}. Recording only touches
+ * striped counters, so concurrent solves never wait on each other.
+ */
+public final class SolverMetrics implements SolverMetricsMBean {
+
+    public static final String OBJECT_NAME = "search:type=SolverMetrics";
+    /** Window of {@link #getSolvesPerSecond()}. */
+    public static final int RATE_WINDOW_SECONDS = 10;
+
+    private final LongAdder solved = new LongAdder();
+    private final LongAdder noSolution = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final LogHistogram latencyNanos = new LogHistogram();
+    private final LogHistogram expansions = new LogHistogram();
+    private final LogHistogram openPeak = new LogHistogram();
+    private final SlidingRate solveRate = new SlidingRate(RATE_WINDOW_SECONDS, System.nanoTime());
+
+    private static final class Holder {
+        static final SolverMetrics GLOBAL = register(new SolverMetrics());
+    }
+
+    public static SolverMetrics global() {
+        return Holder.GLOBAL;
+    }
+
+    private static SolverMetrics register(SolverMetrics metrics) {
+        // Bringing up the platform MBean server loads several hundred classes
+        // and took ~190 ms of the first headless solve, so it happens on a
+        // daemon thread; counts recorded meanwhile are not lost, the bean
+        // just becomes visible to JMX clients a little later.
+        Thread registrar = new Thread("SolverMetricsRegistrar") {
+            @Override
+            public void run() {
+                try {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+                } catch (JMException | SecurityException ex) {
+                    // Metrics still work in-process without JMX.
+                }
+            }
+        };
+        registrar.setDaemon(true);
+        registrar.start();
+        return metrics;
+    }
+
+    public void record(SearchResult result) {
+        switch (result.getStatus()) {
+            case SOLVED:
+                solved.increment();
+                break;
+            case NO_SOLUTION:
+                noSolution.increment();
+                break;
+            case BUDGET_EXHAUSTED:
+            default:
+                budgetExhausted.increment();
+                break;
+        }
+        SearchStats stats = result.getStats();
+        latencyNanos.record(stats.getElapsedNanos());
+        expansions.record(stats.getExpandedNodes());
+        openPeak.record(stats.getPeakOpenSize());
+        solveRate.record(System.nanoTime());
+    }
+
+    @Override
+    public long getSolveCount() {
+        return latencyNanos.getCount();
+    }
+
+    /**
+     * Rate over the last {@value #RATE_WINDOW_SECONDS} seconds, or since
+     * start-up or the last reset if that is more recent.
+     */
+    @Override
+    public double getSolvesPerSecond() {
+        return solveRate.perSecond(System.nanoTime());
+    }
+
+    @Override
+    public long getSolvedCount() {
+        return solved.sum();
+    }
+
+    @Override
+    public long getUnsolvedWithinLimitCount() {
+        return noSolution.sum();
+    }
+
+    @Override
+    public long getBudgetExhaustedCount() {
+        return budgetExhausted.sum();
+    }
+
+    @Override
+    public long getLatencyP50Micros() {
+        return latencyNanos.percentile(50) / 1000;
+    }
+
+    @Override
+    public long getLatencyP90Micros() {
+        return latencyNanos.percentile(90) / 1000;
+    }
+
+    @Override
+    public long getLatencyP99Micros() {
+        return latencyNanos.percentile(99) / 1000;
+    }
+
+    @Override
+    public long getLatencyMaxMicros() {
+        return latencyNanos.getMax() / 1000;
+    }
+
+    @Override
+    public long getExpansionsP50() {
+        return expansions.percentile(50);
+    }
+
+    @Override
+    public long getExpansionsP90() {
+        return expansions.percentile(90);
+    }
+
+    @Override
+    public long getExpansionsP99() {
+        return expansions.percentile(99);
+    }
+
+    @Override
+    public long getExpansionsMax() {
+        return expansions.getMax();
+    }
+
+    @Override
+    public long getOpenPeakP50() {
+        return openPeak.percentile(50);
+    }
+
+    @Override
+    public long getOpenPeakP90() {
+        return openPeak.percentile(90);
+    }
+
+    @Override
+    public long getOpenPeakP99() {
+        return openPeak.percentile(99);
+    }
+
+    @Override
+    public long getOpenPeakMax() {
+        return openPeak.getMax();
+    }
+
+    @Override
+    public void reset() {
+        solved.reset();
+        noSolution.reset();
+        budgetExhausted.reset();
+        latencyNanos.reset();
+        expansions.reset();
+        openPeak.reset();
+        solveRate.reset(System.nanoTime());
+    }
+}
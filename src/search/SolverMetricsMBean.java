@@ -0,0 +1,43 @@
+package search;
+
+/**
+ * JMX view of {@link SolverMetrics}. Latencies are in microseconds.
+ */
+public interface SolverMetricsMBean {
+
+    long getSolveCount();
+
+    double getSolvesPerSecond();
+
+    long getSolvedCount();
+
+    long getUnsolvedWithinLimitCount();
+
+    long getBudgetExhaustedCount();
+
+    long getLatencyP50Micros();
+
+    long getLatencyP90Micros();
+
+    long getLatencyP99Micros();
+
+    long getLatencyMaxMicros();
+
+    long getExpansionsP50();
+
+    long getExpansionsP90();
+
+    long getExpansionsP99();
+
+    long getExpansionsMax();
+
+    long getOpenPeakP50();
+
+    long getOpenPeakP90();
+
+    long getOpenPeakP99();
+
+    long getOpenPeakMax();
+
+    void reset();
+}
@@ -0,0 +1,134 @@
+package search;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk run of strictly increasing state ids, stored as variable-length
+ * deltas: consecutive ids in a sorted layer are usually close, so most of
+ * them take one or two bytes. Written and read sequentially through a
+ * buffered {@link FileChannel}.
+ */
+final class SortedIdFile {
+
+    static final int IO_BUFFER_BYTES = 64 * 1024;
+    /** Returned by {@link Reader#next()} once the run is exhausted. */
+    static final long END = -1;
+
+    private SortedIdFile() {
+    }
+
+    static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+        private long previous = -1;
+        private long count;
+
+        Writer(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        }
+
+        /**
+         * @throws IllegalArgumentException when ids are not strictly increasing
+         */
+        void write(long id) throws IOException {
+            if (id <= previous) {
+                throw new IllegalArgumentException("Ids must be strictly increasing: " + id + " after " + previous);
+            }
+            if (buffer.remaining() < 10) {
+                flush();
+            }
+            long delta = id - previous;
+            while ((delta & ~0x7FL) != 0) {
+                buffer.put((byte) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            buffer.put((byte) delta);
+            previous = id;
+            count++;
+        }
+
+        long count() {
+            return count;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+        private long previous = -1;
+        private boolean eof;
+
+        Reader(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            buffer.flip();
+        }
+
+        /**
+         * The next id, or {@link #END}.
+         */
+        long next() throws IOException {
+            long delta = 0;
+            int shift = 0;
+            while (true) {
+                if (!buffer.hasRemaining() && !fill()) {
+                    if (shift != 0) {
+                        throw new IOException("Truncated id run");
+                    }
+                    return END;
+                }
+                byte b = buffer.get();
+                delta |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+                shift += 7;
+            }
+            previous += delta;
+            return previous;
+        }
+
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            if (read <= 0) {
+                eof = true;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves instances in the background before anyone asks, so that the answer
+ * is already there when it is requested.
+ *
+ * Each {@link #submit} supersedes the previous one: a solve still waiting out
+ * the debounce delay is dropped and a running one is cancelled through its
+ * {@link CancellationToken}, so a burst of edits costs one solve, for the last
+ * instance. Solves run one at a time on a single low-priority daemon thread.
+ * Definitive results (SOLVED or NO_SOLUTION) are kept in a small
+ * least-recently-used cache and handed out by {@link #cached}, together with
+ * the A* expansions that produced them so the search tree can be drawn
+ * without solving again.
+ *
+ * Speculative solves are not recorded in {@link SolverMetrics}; most of them
+ * are cancelled or never asked for, and the caller records the ones it uses.
+ */
+public final class SpeculativeScheduler implements AutoCloseable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+    private static final int CACHE_SIZE = 16;
+
+    private final MoveRules rules;
+    private final int maxDepth;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+    private final Map<Key, Entry> cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private ScheduledFuture<?> pending;
+    private CancellationToken running;
+    private long hits;
+    private long misses;
+
+    public SpeculativeScheduler(MoveRules rules, int maxDepth) {
+        this(rules, maxDepth, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * @param debounceMillis how long an instance must stay unchanged before it is solved
+     */
+    public SpeculativeScheduler(MoveRules rules, int maxDepth, long debounceMillis) {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce delay must not be negative, got " + debounceMillis);
+        }
+        this.rules = Objects.requireNonNull(rules);
+        this.maxDepth = maxDepth;
+        this.debounceMillis = debounceMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread t = new Thread(task, "SpeculativeSolver");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    /**
+     * Schedules a solve of this instance after the debounce delay, replacing
+     * whatever was scheduled or running. Does nothing if the answer is cached.
+     */
+    public synchronized void submit(GameState initial, GameState goal) {
+        Key key = new Key(initial, goal);
+        cancel();
+        if (cache.containsKey(key)) {
+            return;
+        }
+        CancellationToken token = new CancellationToken();
+        running = token;
+        pending = executor.schedule(() -> run(key, token), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops the scheduled solve and cancels the running one, e.g. when the
+     * instance being edited is no longer valid.
+     */
+    public synchronized void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        if (running != null) {
+            running.cancel();
+            running = null;
+        }
+    }
+
+    private void run(Key key, CancellationToken token) {
+        if (token.isCancelled()) {
+            return;
+        }
+        final List<ExpansionEvent> events = new ArrayList<>();
+        SearchListener recorder = new SearchListener() {
+            @Override
+            public void onNodeExpanded(Node chosen, List<Node> successors) {
+                events.add(new ExpansionEvent(events.size(), chosen, successors));
+            }
+        };
+        AStarSolver solver = new AStarSolver(key.initial, key.goal, maxDepth, rules);
+        SearchResult result = solver.solveUnrecorded(recorder, SearchBudget.unlimited().withCancellation(token));
+        synchronized (this) {
+            if (result.getStatus() != SearchResult.Status.BUDGET_EXHAUSTED) {
+                cache.put(key, new Entry(result, events));
+            }
+            if (running == token) {
+                running = null;
+                pending = null;
+            }
+        }
+    }
+
+    /**
+     * The speculatively computed result for this instance, or null if it has
+     * not been solved (yet); the caller then solves it itself.
+     */
+    public SearchResult cached(GameState initial, GameState goal) {
+        return cached(initial, goal, null);
+    }
+
+    /**
+     * Same as {@link #cached(GameState, GameState)}, and on a hit also replays
+     * the recorded expansions, in search order, into {@code replayTo} (if not
+     * null) on the calling thread.
+     */
+    public SearchResult cached(GameState initial, GameState goal, SearchListener replayTo) {
+        Entry entry;
+        synchronized (this) {
+            entry = cache.get(new Key(initial, goal));
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        if (replayTo != null) {
+            for (ExpansionEvent event : entry.events) {
+                replayTo.onNodeExpanded(event.getChosen(), event.getSuccessors());
+            }
+        }
+        return entry.result;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Cancels outstanding work and stops the background thread.
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private static final class Entry {
+        final SearchResult result;
+        final List<ExpansionEvent> events;
+
+        Entry(SearchResult result, List<ExpansionEvent> events) {
+            this.result = result;
+            this.events = events;
+        }
+    }
+
+    private static final class Key {
+        final GameState initial;
+        final GameState goal;
+
+        Key(GameState initial, GameState goal) {
+            this.initial = initial;
+            this.goal = goal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return initial.equals(other.initial) && goal.equals(other.goal);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * initial.hashCode() + goal.hashCode();
+        }
+    }
+}
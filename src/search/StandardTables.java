@@ -0,0 +1,499 @@
+package search;
+
+/**
+ * Precomputed tables for the standard game (eight:RGB).
+ *
+ * GENERATED by tools.GenerateTables; do not edit. Regenerate after changing
+ * the standard rules or the state id encoding in StateSpace.
+ */
+final class StandardTables {
+
+    static final String RULES = "eight:RGB";
+    static final int STATE_COUNT = 2187;
+
+    // Successors of state i are SUCCESSORS[OFFSETS[i] .. OFFSETS[i + 1]).
+    private static final String OFFSETS =
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0005\u0007\u0008\u000b\u000e\u000f\u0012\u0018\u001a\u001d\u0021\u0023\u0027"
+            + "\u002a\u002c\u0030\u0035\u0037\u003b\u003e\u003e\u003e\u003e\u0040\u0042\u0045\u0045\u0045\u0045"
+            + "\u0047\u004a\u004e\u0050\u0052\u0058\u005b\u005d\u0061\u0064\u0067\u006a\u006d\u0070\u0075\u0078"
+            + "\u007b\u007e\u007e\u007e\u007e\u007f\u0082\u0085\u0087\u008b\u008e\u008e\u008e\u008e\u008f\u0092"
+            + "\u0098\u009a\u009e\u00a3\u00a5\u00a8\u00aa\u00ac\u00af\u00b3\u00b5\u00b9\u00bc\u00bc\u00bc\u00bc"
+            + "\u00bd\u00c3\u00c6\u00c8\u00ce\u00d0\u00d1\u00d7\u00da\u00da\u00da\u00da\u00dc\u00e2\u00e6\u00e8"
+            + "\u00ee\u00f0\u00f2\u00f8\u00fc\u00fe\u0104\u0106\u0106\u0106\u0106\u0108\u010c\u010f\u0112\u0116"
+            + "\u0118\u011a\u011f\u0123\u0125\u0129\u012f\u012f\u012f\u012f\u0132\u0137\u013a\u013d\u0141\u0145"
+            + "\u0148\u014c\u014e\u014e\u014e\u014e\u0150\u0153\u0157\u015a\u015d\u0160\u0162\u0164\u0167\u0169"
+            + "\u016b\u0171\u0174\u0177\u017c\u017c\u017c\u017c\u017f\u0181\u0185\u0188\u018b\u018e\u018e\u018e"
+            + "\u018e\u0190\u0195\u0199\u019c\u01a1\u01a4\u01a6\u01aa\u01ad\u01af\u01b3\u01b9\u01bc\u01c0\u01c4"
+            + "\u01c7\u01cb\u01cd\u01cd\u01cd\u01cd\u01d0\u01d4\u01d6\u01d6\u01d6\u01d6\u01d8\u01db\u01df\u01e2"
+            + "\u01e5\u01e8\u01ea\u01ed\u01f1\u01f3\u01f5\u01fb\u01fe\u0200\u0204\u0207\u020a\u020d\u0210\u0212"
+            + "\u0216\u0216\u0216\u0216\u0216\u0216\u0216\u0216\u0216\u0216\u0219\u021b\u021d\u0220\u0221\u0224"
+            + "\u0227\u0228\u022e\u0231\u0233\u0237\u023b\u023d\u0240\u0244\u0246\u024b\u024f\u0251\u0254\u0254"
+            + "\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254"
+            + "\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0254\u0257\u0259\u025b\u025b\u025b\u025b"
+            + "\u025b\u025b\u025b\u025e\u0260\u0264\u0267\u0268\u026e\u0271\u0272\u0275\u0279\u027b\u027e\u0282"
+            + "\u0284\u0289\u028d\u028f\u0292\u0295\u0298\u0299\u0299\u0299\u0299\u029c\u02a0\u02a2\u02a2\u02a2"
+            + "\u02a2\u02a5\u02a8\u02ae\u02b1\u02b5\u02b9\u02bd\u02c0\u02c2\u02c6\u02c9\u02cd\u02d1\u02d5\u02d8"
+            + "\u02db\u02e1\u02e2\u02e2\u02e2\u02e2\u02e5\u02eb\u02ec\u02ef\u02f5\u02f8\u02f8\u02f8\u02f8\u02fb"
+            + "\u0301\u0304\u0308\u030e\u0310\u0314\u031a\u031e\u0322\u0328\u032a\u032d\u0331\u0333\u0333\u0333"
+            + "\u0333\u0336\u0339\u033a\u033d\u0341\u0345\u0348\u034b\u0351\u0351\u0351\u0351\u0355\u0359\u035c"
+            + "\u0360\u0363\u0367\u036b\u036e\u0370\u0374\u0377\u0379\u0379\u0379\u0379\u037d\u0380\u0382\u0386"
+            + "\u0388\u038b\u038f\u0391\u0397\u039b\u039e\u03a2\u03a2\u03a2\u03a2\u03a7\u03a9\u03ad\u03b2\u03b5"
+            + "\u03b8\u03bc\u03c1\u03c3\u03c3\u03c3\u03c3\u03c7\u03cc\u03ce\u03d2\u03d6\u03d9\u03dd\u03e1\u03e7"
+            + "\u03eb\u03ef\u03f2\u03f7\u03fb\u03fd\u03fd\u03fd\u03fd\u0402\u0406\u0408\u040c\u040f\u0411\u0411"
+            + "\u0411\u0411\u0415\u0418\u041a\u041e\u0421\u0425\u0429\u042b\u0431\u0435\u0437\u043a\u043f\u0442"
+            + "\u0445\u044a\u044c\u0450\u0450\u0450\u0450\u0450\u0450\u0450\u0452\u0454\u0457\u0457\u0457\u0457"
+            + "\u045a\u045c\u0460\u0462\u0464\u046a\u046c\u046f\u0473\u0476\u0479\u047c\u047f\u0482\u0487\u048a"
+            + "\u048d\u0490\u0492\u0495\u0497\u0497\u0497\u0497\u0497\u0497\u0497\u0499\u049c\u04a0\u04a1\u04a4"
+            + "\u04aa\u04ab\u04ae\u04b1\u04b3\u04b7\u04ba\u04bc\u04c0\u04c5\u04c7\u04cb\u04ce\u04ce\u04ce\u04ce"
+            + "\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce"
+            + "\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04ce\u04d1\u04d5\u04d7\u04d9\u04dd\u04e0\u04e0\u04e0"
+            + "\u04e0\u04e0\u04e0\u04e0\u04e2\u04e6\u04ec\u04ee\u04f3\u04f7\u04fa\u04fe\u0500\u0503\u0507\u050b"
+            + "\u050e\u0513\u0516\u0518\u051e\u0520\u0521\u0527\u052a\u052a\u052a\u052a\u052c\u0532\u0536\u0536"
+            + "\u0536\u0536\u0537\u053d\u0540\u0542\u0548\u054a\u054c\u0552\u0556\u0558\u055e\u0560\u0562\u0566"
+            + "\u0569\u056a\u056d\u0570\u0570\u0570\u0570\u0572\u0576\u057b\u057c\u057f\u0585\u0585\u0585\u0585"
+            + "\u0587\u058b\u058e\u0590\u0593\u0597\u0599\u059c\u059e\u05a1\u05a4\u05a7\u05a9\u05ac\u05b0\u05b0"
+            + "\u05b0\u05b0\u05b3\u05b5\u05b9\u05bb\u05bd\u05c3\u05c5\u05c8\u05cc\u05cc\u05cc\u05cc\u05cf\u05d1"
+            + "\u05d5\u05d8\u05db\u05de\u05e1\u05e6\u05e9\u05eb\u05f0\u05f4\u05f4\u05f4\u05f4\u05f7\u05fb\u05ff"
+            + "\u0601\u0605\u060b\u060d\u0611\u0614\u0617\u061b\u061d\u061d\u061d\u061d\u0620\u0624\u0626\u0629"
+            + "\u062c\u062f\u0631\u0634\u0638\u0638\u0638\u0638\u063b\u063e\u0643\u0645\u0647\u064d\u064f\u0651"
+            + "\u0654\u0657\u065a\u065d\u0660\u0662\u0666\u0666\u0666\u0666\u0666\u0666\u0666\u0669\u066a\u066d"
+            + "\u0671\u0673\u0676\u0676\u0676\u0676\u0679\u067a\u0680\u0684\u0686\u068b\u068e\u0690\u0692\u0695"
+            + "\u0697\u069b\u069f\u06a1\u06a4\u06a7\u06aa\u06ab\u06ab\u06ab\u06ab\u06af\u06b2\u06b4\u06b4\u06b4"
+            + "\u06b4\u06b7\u06ba\u06c0\u06c4\u06c7\u06cb\u06ce\u06d2\u06d4\u06d7\u06db\u06df\u06e3\u06e7\u06ea"
+            + "\u06ee\u06f1\u06f3\u06f7\u06f9\u06fc\u06fc\u06fc\u06fc\u06fc\u06fc\u06fc\u0700\u0702\u0708\u070d"
+            + "\u070f\u0713\u0717\u071a\u071c\u0720\u0723\u0727\u072c\u072f\u0732\u0732\u0732\u0732\u0732\u0732"
+            + "\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732\u0732"
+            + "\u0732\u0732\u0732\u0732\u0732\u0732\u0735\u073b\u073c\u073f\u0745\u0748\u074c\u0752\u0754\u0754"
+            + "\u0754\u0754\u0754\u0754\u0754\u0758\u075e\u0762\u0765\u076b\u076c\u076f\u0775\u0778\u077c\u0782"
+            + "\u0784\u0788\u078d\u078f\u0793\u0797\u079a\u079f\u07a3\u07a5\u07a5\u07a5\u07a5\u07a9\u07ad\u07b3"
+            + "\u07b3\u07b3\u07b3\u07b7\u07bc\u07be\u07c2\u07c6\u07c9\u07ce\u07d2\u07d4\u07d7\u07d9\u07db\u07de"
+            + "\u07e0\u07e4\u07e8\u07ea\u07ed\u07ed\u07ed\u07ed\u07f0\u07f1\u07f7\u07fb\u07fd\u0802\u0802\u0802"
+            + "\u0802\u0805\u0806\u0809\u080d\u080f\u0812\u0815\u0819\u081b\u081e\u0822\u0826\u082a\u082e\u0831"
+            + "\u0831\u0831\u0831\u0834\u0837\u083d\u0841\u0844\u0848\u084b\u084e\u084f\u084f\u084f\u084f\u0853"
+            + "\u0856\u0858\u085c\u085f\u0861\u0865\u0868\u086c\u0871\u0874\u0877\u0877\u0877\u0877\u087b\u087d"
+            + "\u0883\u0888\u088a\u088e\u0892\u0895\u0897\u089b\u089d\u08a0\u08a0\u08a0\u08a0\u08a0\u08a0\u08a0"
+            + "\u08a6\u08a7\u08aa\u08b0\u08b2\u08b4\u08ba\u08bb\u08be\u08be\u08be\u08be\u08c4\u08c6\u08ca\u08d0"
+            + "\u08d2\u08d4\u08da\u08dc\u08e0\u08e6\u08e8\u08ea\u08f0\u08f3\u08f4\u08f4\u08f4\u08f4\u08fa\u08fd"
+            + "\u08fe\u0904\u0907\u090a\u090a\u090a\u090a\u0910\u0913\u0916\u091c\u0920\u0922\u0928\u092c\u0930"
+            + "\u0936\u093a\u093c\u0942\u0944\u0946\u094c\u094d\u0950\u0950\u0950\u0950\u0956\u0958\u095c\u095c"
+            + "\u095c\u095c\u0962\u0963\u0966\u096c\u096e\u0970\u0976\u0978\u097c\u0982\u0984\u0986\u098c\u098f"
+            + "\u0990\u0996\u0999\u099c\u09a2\u09a6\u09a8\u09a8\u09a8\u09a8\u09a8\u09a8\u09a8\u09ae\u09b2\u09b6"
+            + "\u09bc\u09bf\u09c0\u09c6\u09c9\u09cc\u09d2\u09d6\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8"
+            + "\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8\u09d8"
+            + "\u09d8\u09d8\u09d8\u09d8\u09de\u09e2\u09e4\u09ea\u09ed\u09f0\u09f6\u09f9\u09fa\u0a00\u0a04\u0a08"
+            + "\u0a08\u0a08\u0a08\u0a08\u0a08\u0a08\u0a0e\u0a12\u0a14\u0a1a\u0a1d\u0a20\u0a26\u0a29\u0a2a\u0a30"
+            + "\u0a32\u0a34\u0a3a\u0a3c\u0a40\u0a46\u0a48\u0a4a\u0a50\u0a51\u0a54\u0a54\u0a54\u0a54\u0a5a\u0a5c"
+            + "\u0a60\u0a60\u0a60\u0a60\u0a66\u0a67\u0a6a\u0a70\u0a72\u0a74\u0a7a\u0a7e\u0a80\u0a86\u0a8a\u0a8e"
+            + "\u0a94\u0a98\u0a9a\u0aa0\u0aa3\u0aa6\u0aa6\u0aa6\u0aa6\u0aac\u0aaf\u0ab2\u0ab8\u0abb\u0abc\u0abc"
+            + "\u0abc\u0abc\u0ac2\u0ac5\u0ac6\u0acc\u0ace\u0ad0\u0ad6\u0ad8\u0adc\u0ae2\u0ae4\u0ae6\u0aec\u0aee"
+            + "\u0af2\u0af2\u0af2\u0af2\u0af8\u0af9\u0afc\u0b02\u0b04\u0b06\u0b0c\u0b0d\u0b10\u0b10\u0b10\u0b10"
+            + "\u0b10\u0b10\u0b10\u0b14\u0b16\u0b19\u0b1d\u0b20\u0b22\u0b27\u0b29\u0b2d\u0b31\u0b33\u0b39\u0b39"
+            + "\u0b39\u0b39\u0b3e\u0b41\u0b44\u0b48\u0b4b\u0b4f\u0b53\u0b56\u0b58\u0b5c\u0b5f\u0b61\u0b61\u0b61"
+            + "\u0b61\u0b64\u0b67\u0b68\u0b6c\u0b6f\u0b73\u0b76\u0b79\u0b7f\u0b7f\u0b7f\u0b7f\u0b83\u0b87\u0b8a"
+            + "\u0b8d\u0b91\u0b95\u0b98\u0b9c\u0b9e\u0ba2\u0ba4\u0ba7\u0baa\u0bab\u0bae\u0bae\u0bae\u0bae\u0bb2"
+            + "\u0bb4\u0bb9\u0bbc\u0bbd\u0bc3\u0bc3\u0bc3\u0bc3\u0bc7\u0bc9\u0bcc\u0bcf\u0bd1\u0bd5\u0bd8\u0bda"
+            + "\u0bdc\u0be1\u0be5\u0be7\u0beb\u0bef\u0bf2\u0bf6\u0bfb\u0bfd\u0bfd\u0bfd\u0bfd\u0c01\u0c05\u0c0b"
+            + "\u0c0b\u0c0b\u0c0b\u0c10\u0c14\u0c16\u0c1a\u0c1e\u0c21\u0c25\u0c2a\u0c2c\u0c30\u0c36\u0c38\u0c3b"
+            + "\u0c41\u0c44\u0c47\u0c4d\u0c4e\u0c52\u0c58\u0c5c\u0c5c\u0c5c\u0c5c\u0c5c\u0c5c\u0c5c\u0c60\u0c66"
+            + "\u0c68\u0c6b\u0c71\u0c74\u0c77\u0c7d\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e"
+            + "\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e\u0c7e"
+            + "\u0c7e\u0c7e\u0c83\u0c86\u0c89\u0c8d\u0c90\u0c94\u0c98\u0c9b\u0c9d\u0ca2\u0ca4\u0ca8\u0cac\u0cae"
+            + "\u0cb4\u0cb4\u0cb4\u0cb4\u0cb4\u0cb4\u0cb4\u0cb8\u0cba\u0cbd\u0cc1\u0cc4\u0cc6\u0cca\u0cce\u0cd1"
+            + "\u0cd4\u0cd8\u0cdc\u0cdf\u0ce3\u0ce5\u0ce9\u0cec\u0cf0\u0cf3\u0cf6\u0cfc\u0cfc\u0cfc\u0cfc\u0d00"
+            + "\u0d03\u0d05\u0d05\u0d05\u0d05\u0d08\u0d0b\u0d0c\u0d10\u0d12\u0d15\u0d18\u0d1a\u0d1e\u0d21\u0d23"
+            + "\u0d25\u0d29\u0d2b\u0d30\u0d33\u0d34\u0d3a\u0d3a\u0d3a\u0d3a\u0d3e\u0d40\u0d43\u0d46\u0d47\u0d4a"
+            + "\u0d4a\u0d4a\u0d4a\u0d4a\u0d4a\u0d4a\u0d4d\u0d4f\u0d53\u0d56\u0d59\u0d5c\u0d5e\u0d60\u0d63\u0d65"
+            + "\u0d67\u0d6d\u0d70\u0d73\u0d78\u0d78\u0d78\u0d78\u0d7a\u0d7d\u0d81\u0d84\u0d87\u0d8a\u0d8d\u0d91"
+            + "\u0d93\u0d93\u0d93\u0d93\u0d96\u0d9a\u0d9c\u0d9e\u0da2\u0da5\u0da7\u0dab\u0db1\u0db4\u0db8\u0dbc"
+            + "\u0dbc\u0dbc\u0dbc\u0dbe\u0dc3\u0dc7\u0dca\u0dcf\u0dd2\u0dd5\u0dd8\u0ddb\u0dde\u0de0\u0de4\u0de4"
+            + "\u0de4\u0de4\u0de6\u0de9\u0ded\u0def\u0df1\u0df7\u0dfa\u0dfc\u0e00\u0e00\u0e00\u0e00\u0e02\u0e05"
+            + "\u0e09\u0e0c\u0e0f\u0e12\u0e14\u0e17\u0e19\u0e1b\u0e1e\u0e22\u0e24\u0e28\u0e2b\u0e2b\u0e2b\u0e2b"
+            + "\u0e2c\u0e2f\u0e35\u0e37\u0e3b\u0e40\u0e40\u0e40\u0e40\u0e41\u0e44\u0e47\u0e49\u0e4d\u0e50\u0e52"
+            + "\u0e58\u0e5a\u0e5c\u0e62\u0e66\u0e68\u0e6e\u0e70\u0e71\u0e77\u0e7a\u0e7a\u0e7a\u0e7a\u0e7c\u0e82"
+            + "\u0e86\u0e86\u0e86\u0e86\u0e87\u0e8d\u0e90\u0e92\u0e98\u0e9a\u0e9d\u0ea2\u0ea5\u0ea8\u0eac\u0eb0"
+            + "\u0eb3\u0eb7\u0eb9\u0ebb\u0ec0\u0ec4\u0ec6\u0eca\u0ed0\u0ed0\u0ed0\u0ed0\u0ed0\u0ed0\u0ed0\u0ed2"
+            + "\u0ed6\u0ed9\u0edc\u0ee0\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2"
+            + "\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2\u0ee2"
+            + "\u0ee4\u0ee8\u0eeb\u0eed\u0ef1\u0ef6\u0ef8\u0efc\u0eff\u0f00\u0f03\u0f06\u0f07\u0f0a\u0f10\u0f12"
+            + "\u0f15\u0f19\u0f19\u0f19\u0f19\u0f19\u0f19\u0f19\u0f1b\u0f1e\u0f20\u0f23\u0f26\u0f29\u0f2c\u0f2f"
+            + "\u0f34\u0f37\u0f3a\u0f3d\u0f3f\u0f42\u0f46\u0f48\u0f4a\u0f50\u0f53\u0f55\u0f59\u0f59\u0f59\u0f59"
+            + "\u0f5b\u0f5d\u0f60\u0f60\u0f60\u0f60\u0f60\u0f60\u0f60\u0f65\u0f67\u0f6b\u0f70\u0f73\u0f76\u0f7a"
+            + "\u0f7c\u0f7f\u0f83\u0f85\u0f8b\u0f8f\u0f92\u0f96\u0f9a\u0f9d\u0f9f\u0f9f\u0f9f\u0f9f\u0fa3\u0fa6"
+            + "\u0fa8\u0fad\u0fb1\u0fb3\u0fb3\u0fb3\u0fb3\u0fb8\u0fbc\u0fbe\u0fc2\u0fc6\u0fc9\u0fcd\u0fd1\u0fd7"
+            + "\u0fdb\u0fdf\u0fe2\u0fe6\u0feb\u0fed\u0fed\u0fed\u0fed\u0ff1\u0ff6\u0ff8\u0ffd\u1000\u1003\u1008"
+            + "\u100a\u100e\u100e\u100e\u100e\u1012\u1015\u1019\u101d\u101f\u1025\u1029\u102b\u102e\u1032\u1035"
+            + "\u1037\u1037\u1037\u1037\u103b\u103e\u1040\u1044\u1047\u1049\u104d\u1050\u1054\u1058\u105c\u105f"
+            + "\u105f\u105f\u105f\u1062\u1065\u106b\u106e\u1072\u1076\u1079\u107c\u107d\u107d\u107d\u107d\u1080"
+            + "\u1084\u1086\u108a\u1090\u1092\u1096\u109c\u10a0\u10a4\u10aa\u10ac\u10af\u10b5\u10b8\u10b8\u10b8"
+            + "\u10b8\u10bb\u10c1\u10c4\u10c7\u10cd\u10ce\u10ce\u10ce\u10ce\u10d1\u10d7\u10d8\u10dc\u10e0\u10e3"
+            + "\u10e7\u10ea\u10ee\u10f2\u10f5\u10f7\u10fa\u10fe\u1102\u1105\u1108\u110e\u110e\u110e\u110e\u1111"
+            + "\u1115\u1117\u1117\u1117\u1117\u111a\u111d\u111e\u1122\u1124\u1127\u112b\u112d\u1132\u1136\u1138"
+            + "\u113b\u113e\u113f\u1142\u1145\u1146\u114c\u114f\u1151\u1155\u1155\u1155\u1155\u1155\u1155\u1155"
+            + "\u1158\u115a\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c"
+            + "\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u115c\u1160\u1162"
+            + "\u1165\u1169\u116b\u1170\u1174\u1176\u1179\u117c\u117e\u1182\u1185\u1186\u118c\u118f\u1190\u1193"
+            + "\u1196\u1198\u119a\u119a\u119a\u119a\u119a\u119a\u119a\u119a\u119a\u119a\u119d\u119f\u11a3\u11a6"
+            + "\u11a9\u11ac\u11af\u11b1\u11b5\u11b7\u11b9\u11bf\u11c1\u11c4\u11c8\u11cb\u11ce\u11d1\u11d3\u11d6"
+            + "\u11da\u11da\u11da\u11da\u11dd\u11e1\u11e3\u11e3\u11e3\u11e3\u11e6\u11ea\u11ec\u11ef\u11f3\u11f7"
+            + "\u11f9\u11fd\u1203\u1205\u1209\u120c\u120f\u1214\u1217\u1219\u121e\u1222\u1222\u1222\u1222\u1225"
+            + "\u1228\u122b\u122e\u1230\u1234\u1234\u1234\u1234\u1237\u123a\u123f\u1241\u1243\u1249\u124b\u124d"
+            + "\u1250\u1253\u1256\u1259\u125b\u125e\u1262\u1262\u1262\u1262\u1265\u1269\u126b\u126e\u1272\u1276"
+            + "\u1279\u127e\u1281\u1281\u1281\u1281\u1283\u1287\u128d\u128f\u1294\u1298\u129b\u129f\u12a1\u12a3"
+            + "\u12a7\u12aa\u12aa\u12aa\u12aa\u12ac\u12b2\u12b4\u12b6\u12bc\u12c0\u12c2\u12c8\u12ca\u12cc\u12d2"
+            + "\u12d6\u12d6\u12d6\u12d6\u12d7\u12dd\u12e0\u12e2\u12e8\u12ea\u12eb\u12f1\u12f4\u12f4\u12f4\u12f4"
+            + "\u12f6\u12fa\u12fd\u12ff\u1302\u1306\u1308\u130b\u130d\u130f\u1313\u1318\u1319\u131c\u1322\u1322"
+            + "\u1322\u1322\u1324\u1328\u132b\u132c\u132f\u1332\u1332\u1332\u1332\u1335\u1338\u133b\u133e\u1341"
+            + "\u1346\u1349\u134c\u134f\u1352\u1354\u1358\u135a\u135c\u1362\u1364\u1367\u136b\u136b\u136b\u136b"
+            + "\u136d\u136f\u1372\u1372\u1372\u1372\u1374\u1378\u137b\u137d\u1381\u1386\u1388\u138c\u138f\u1391"
+            + "\u1394\u1398\u1399\u139c\u13a2\u13a3\u13a6\u13a9\u13ab\u13ae\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0"
+            + "\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0"
+            + "\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0\u13b0";
+
+    private static final String SUCCESSORS =
+            "\u02fb\u03ee\u0074\u0059\u008f\u002a\u0027\u03f1\u0077\u0041\u0092\u002d\u0027\u0030\u0301\u0044"
+            + "\u005f\u0095\u0030\u0024\u002a\u0021\u002d\u0033\u0304\u03f7\u007d\u0047\u0062\u0021\u0033\u0027"
+            + "\u0030\u0307\u03fa\u0080\u004a\u0065\u009b\u0024\u0030\u0027\u030a\u03fd\u0083\u004d\u0068\u009e"
+            + "\u0027\u002d\u0033\u0024\u002a\u030d\u0400\u0086\u0050\u006b\u00a1\u002a\u0030\u0027\u0313\u0406"
+            + "\u008c\u0071\u0042\u003f\u0045\u0133\u040c\u0092\u0026\u0077\u0048\u0042\u0039\u004b\u031c\u0136"
+            + "\u0095\u0029\u0039\u004b\u003f\u0045\u0048\u004e\u031f\u0139\u0412\u002c\u007d\u004e\u0042\u0039"
+            + "\u004b\u0322\u013c\u0415\u009b\u002f\u0080\u003f\u004b\u0042\u0325\u013f\u0418\u009e\u0032\u0083"
+            + "\u0042\u0048\u004e\u003f\u0045\u0328\u0142\u041b\u00a1\u0035\u0086\u0045\u004b\u0042\u0421\u00a7"
+            + "\u0071\u00c2\u005d\u0057\u0060\u014b\u0424\u00aa\u0074\u0023\u00c5\u0060\u0054\u005d\u0151\u00b0"
+            + "\u0029\u00cb\u0054\u0066\u0060\u0057\u0063\u0069\u0154\u042d\u00b3\u007d\u002c\u00ce\u0057\u0069"
+            + "\u005d\u0054\u0066\u0157\u0430\u0080\u002f\u00d1\u0066\u005d\u015a\u0433\u00b9\u0083\u0032\u005d"
+            + "\u0063\u0069\u0060\u015d\u0436\u00bc\u0086\u0035\u00d7\u0060\u0066\u005d\u0349\u00c2\u0056\u008c"
+            + "\u003b\u00a7\u00dd\u0072\u0075\u007b\u034c\u0166\u0023\u00c5\u0059\u008f\u00aa\u00e0\u007b\u006f"
+            + "\u0169\u0026\u00c8\u0092\u0041\u00ad\u00e3\u007e\u006f\u0081\u0355\u016f\u002c\u00ce\u0062\u0047"
+            + "\u00b3\u00e9\u0072\u0084\u006f\u0081\u0358\u0172\u002f\u00d1\u0065\u009b\u004a\u00ec\u0075\u0081"
+            + "\u035b\u0175\u0032\u0068\u009e\u004d\u00b9\u00ef\u007e\u0084\u0075\u007b\u035e\u0178\u0035\u00d7"
+            + "\u006b\u00a1\u0050\u00bc\u007b\u0081\u0364\u0457\u003b\u00dd\u0071\u00c2\u0093\u008d\u0090\u0367"
+            + "\u0181\u045a\u00e0\u0074\u0023\u00c5\u008a\u0093\u0184\u045d\u0041\u00e3\u0077\u0026\u00c8\u0099"
+            + "\u0093\u008a\u009c\u036d\u0187\u0044\u00e6\u0029\u00cb\u008a\u009c\u0090\u008d\u0099\u009f\u0373"
+            + "\u018d\u0466\u004a\u00ec\u0080\u002f\u00d1\u0090\u009c\u0093\u0376\u0190\u0469\u004d\u00ef\u0083"
+            + "\u0032\u0093\u0099\u009f\u0090\u0379\u0193\u046c\u0050\u0086\u0035\u00d7\u009c\u0093\u037f\u0472"
+            + "\u0056\u00c2\u0071\u00ae\u00a8\u00ab\u00b1\u0382\u019c\u0475\u0059\u00c5\u0074\u00b1\u00a5\u00ae"
+            + "\u019f\u0478\u00c8\u0077\u00ae\u00a5\u00b7\u0388\u01a2\u005f\u00cb\u00a5\u00b7\u00ab\u00b1\u00a8"
+            + "\u00ba\u038b\u01a5\u047e\u0062\u00ce\u007d\u00a8\u00ba\u00ae\u00a5\u00b7\u0391\u01ab\u0484\u0068"
+            + "\u0083\u00ae\u00ba\u00ab\u00b1\u0394\u01ae\u0487\u006b\u00d7\u0086\u00b1\u00b7\u00ae\u039a\u048d"
+            + "\u0071\u00a7\u00dd\u0056\u008c\u00c9\u00c3\u00c6\u00cc\u039d\u01b7\u0490\u0074\u00aa\u00e0\u0059"
+            + "\u008f\u00cc\u00c0\u00c9\u01ba\u0493\u0077\u00ad\u00e3\u0092\u00cf\u00c9\u00c0\u03a3\u01bd\u00b0"
+            + "\u00e6\u005f\u0095\u00c0\u00c6\u00cc\u00c3\u00cf\u00d5\u03a6\u01c0\u0499\u007d\u00b3\u00e9\u0062"
+            + "\u00c3\u00d5\u00c9\u00c0\u03a9\u01c3\u049c\u0080\u00ec\u0065\u009b\u00c6\u00c9\u03af\u01c9\u04a2"
+            + "\u0086\u00bc\u006b\u00a1\u00cc\u00c9\u03b5\u04a8\u008c\u00c2\u0071\u00e4\u00de\u00e1\u00e7\u03b8"
+            + "\u01d2\u04ab\u008f\u00c5\u0074\u00e7\u00db\u00e4\u01d5\u04ae\u0092\u00c8\u0077\u00ea\u00e4\u00db"
+            + "\u00ed\u03be\u01d8\u0095\u00cb\u00db\u00ed\u00e1\u00e7\u00de\u00ea\u03c1\u01db\u04b4\u00ce\u007d"
+            + "\u00de\u00e4\u00db\u00ed\u03c4\u01de\u04b7\u009b\u00d1\u0080\u00e1\u00ed\u00e4\u03c7\u01e1\u04ba"
+            + "\u009e\u0083\u00e4\u00ea\u00e1\u00e7\u03d3\u02e0\u04c6\u014c\u0167\u0102\u00ff\u03d6\u01f0\u04c9"
+            + "\u016a\u0105\u00ff\u0108\u01f3\u02e6\u04cc\u0152\u0108\u00fc\u0102\u00f9\u0105\u010b\u03dc\u01f6"
+            + "\u02e9\u0155\u0170\u00f9\u010b\u00ff\u0108\u03df\u01f9\u02ec\u04d2\u0158\u0173\u00fc\u0108\u00ff"
+            + "\u03e2\u01fc\u02ef\u04d5\u015b\u0176\u00ff\u0105\u010b\u00fc\u0102\u03e5\u01ff\u02f2\u04d8\u015e"
+            + "\u0179\u0102\u0108\u00ff\u0403\u0310\u04f6\u017c\u0161\u0132\u0135\u040c\u0040\u04ff\u0185\u016a"
+            + "\u0129\u013b\u0135\u013e\u0043\u031c\u0502\u0188\u013e\u0132\u0138\u0129\u013b\u0141\u0412\u0046"
+            + "\u031f\u0170\u0141\u0135\u013e\u0415\u0049\u0322\u0508\u018e\u0173\u0132\u013e\u0135\u0418\u004c"
+            + "\u0325\u050b\u0191\u0176\u0135\u013b\u0141\u0132\u0138\u041b\u004f\u0328\u050e\u0194\u0179\u0138"
+            + "\u013e\u0135\u041e\u0238\u0511\u0197\u0161\u01b2\u0150\u0424\u0058\u0517\u00fb\u019d\u0167\u01b8"
+            + "\u0153\u0150\u005e\u0244\u051d\u0101\u01a3\u01be\u0159\u0153\u0144\u014a\u0156\u015c\u042d\u0061"
+            + "\u0247\u0104\u01a6\u0170\u01c1\u014a\u015c\u0150\u0159\u0430\u0064\u024a\u0523\u0107\u0173\u01c4"
+            + "\u0159\u0150\u0433\u0067\u024d\u0526\u010a\u01ac\u0176\u0150\u0156\u015c\u0153\u0436\u006a\u0250"
+            + "\u0529\u010d\u01af\u0179\u01ca\u0153\u0159\u0150\u0253\u0346\u052c\u01b2\u0146\u017c\u012b\u0197"
+            + "\u01cd\u0168\u0073\u034c\u0532\u01b8\u014c\u0182\u00fb\u019d\u01d3\u016e\u0076\u025c\u0535\u01bb"
+            + "\u0185\u00fe\u0134\u01a0\u01d6\u015f\u0171\u0174\u007c\u0262\u0355\u01c1\u0155\u0104\u013a\u01a6"
+            + "\u01dc\u0165\u0177\u0174\u007f\u0265\u0358\u053e\u01c4\u0158\u018e\u0107\u013d\u01df\u0168\u0174"
+            + "\u0082\u0268\u035b\u0541\u015b\u0191\u010a\u0140\u01ac\u01e2\u0171\u0177\u0168\u016e\u0085\u026b"
+            + "\u035e\u0544\u01ca\u015e\u0194\u010d\u0143\u01af\u016e\u0174\u0454\u026e\u0361\u012b\u01cd\u0161"
+            + "\u01b2\u0183\u0186\u045a\u008e\u0367\u01d3\u0167\u01b8\u0186\u045d\u0091\u0277\u0134\u01d6\u016a"
+            + "\u01bb\u017a\u018c\u0186\u018f\u0094\u027a\u036d\u0137\u01d9\u01be\u018f\u0183\u017a\u0180\u018c"
+            + "\u0192\u0466\u009a\u0280\u0373\u013d\u01df\u0173\u01c4\u0183\u018f\u0186\u0469\u009d\u0283\u0376"
+            + "\u0140\u01e2\u0176\u0186\u018c\u0192\u0183\u046c\u00a0\u0286\u0379\u0143\u0179\u01ca\u018f\u0186"
+            + "\u046f\u0289\u037c\u0562\u0146\u01b2\u0161\u019e\u01a1\u0475\u00a9\u0382\u0568\u014c\u01b8\u0167"
+            + "\u01a4\u01a1\u0478\u00ac\u0292\u056b\u01bb\u016a\u0195\u01a1\u01aa\u00af\u0295\u0388\u056e\u0152"
+            + "\u01be\u01aa\u019e\u01a4\u0195\u019b\u01ad\u047e\u00b2\u0298\u038b\u0155\u01c1\u0170\u019b\u01ad"
+            + "\u01a1\u01aa\u0484\u00b8\u029e\u0391\u0577\u015b\u0176\u01a1\u01ad\u019e\u01a4\u0487\u00bb\u02a1"
+            + "\u0394\u057a\u015e\u01ca\u0179\u01a4\u01aa\u01a1\u048a\u02a4\u0397\u057d\u0161\u0197\u01cd\u0146"
+            + "\u017c\u01b9\u01bc\u0490\u00c4\u039d\u0583\u0167\u019d\u01d3\u014c\u0182\u01bf\u01bc\u0493\u00c7"
+            + "\u02ad\u0586\u016a\u01a0\u01d6\u0185\u01b0\u01c2\u01bc\u00ca\u02b0\u03a3\u0589\u01a3\u01d9\u0152"
+            + "\u0188\u01b9\u01bf\u01b0\u01b6\u01c2\u01c8\u0499\u00cd\u02b3\u03a6\u0170\u01a6\u01dc\u0155\u01b6"
+            + "\u01c8\u01bc\u049c\u00d0\u02b6\u03a9\u058f\u0173\u01df\u0158\u018e\u01b9\u01bc\u04a2\u00d6\u02bc"
+            + "\u03af\u0595\u0179\u01af\u015e\u0194\u01bf\u01bc\u04a5\u02bf\u03b2\u0598\u017c\u01b2\u0161\u01d4"
+            + "\u01d7\u04ab\u00df\u03b8\u059e\u0182\u01b8\u0167\u01da\u01d7\u04ae\u00e2\u02c8\u05a1\u0185\u01bb"
+            + "\u016a\u01cb\u01dd\u01d7\u01e0\u00e5\u02cb\u03be\u05a4\u0188\u01be\u01e0\u01d4\u01da\u01cb\u01d1"
+            + "\u01dd\u04b4\u00e8\u02ce\u03c1\u01c1\u0170\u01d1\u01d7\u01e0\u04b7\u00eb\u02d1\u03c4\u05aa\u018e"
+            + "\u01c4\u0173\u01d4\u01e0\u01d7\u04ba\u00ee\u02d4\u03c7\u05ad\u0191\u0176\u01d7\u01dd\u01d4\u01da"
+            + "\u04c3\u03d0\u023c\u0257\u01f2\u01ef\u01f5\u04c9\u00fd\u03d6\u020c\u025d\u01f8\u01f2\u01e9\u01fb"
+            + "\u04cc\u0100\u0245\u020f\u01e9\u01fb\u01ef\u01f5\u01f8\u01fe\u0103\u03dc\u0248\u0212\u0263\u01fe"
+            + "\u01f2\u01e9\u01fb\u04d2\u0106\u03df\u024b\u0215\u0266\u01ef\u01fb\u01f2\u04d5\u0109\u03e2\u024e"
+            + "\u0218\u0269\u01f2\u01f8\u01fe\u01ef\u01f5\u04d8\u010c\u03e5\u0251\u021b\u026c\u01f5\u01fb\u01f2"
+            + "\u04db\u03e8\u0254\u0239\u026f\u020a\u020d\u04e4\u03f1\u025d\u01f1\u0278\u0201\u0213\u020d\u0216"
+            + "\u04e7\u01f4\u0245\u027b\u0216\u020a\u0210\u0201\u0213\u0219\u03f7\u0263\u01f7\u0248\u0219\u020d"
+            + "\u0216\u04ed\u03fa\u0266\u01fa\u024b\u0281\u020a\u0216\u020d\u04f0\u03fd\u0269\u01fd\u024e\u0284"
+            + "\u020d\u0213\u0219\u020a\u0210\u04f3\u0400\u026c\u0200\u0251\u0287\u0210\u0216\u020d\u0511\u0145"
+            + "\u041e\u028a\u0254\u0203\u02a5\u023a\u0243\u0514\u0421\u01eb\u028d\u0257\u02a8\u0243\u0237\u0246"
+            + "\u051d\u0151\u01f4\u0296\u020f\u02b1\u023a\u024c\u0246\u0237\u0249\u024f\u0154\u042d\u01f7\u0299"
+            + "\u0263\u0212\u02b4\u024f\u0243\u023a\u024c\u0523\u0157\u0430\u01fa\u0266\u0215\u02b7\u024c\u0243"
+            + "\u0526\u015a\u0433\u01fd\u029f\u0269\u0218\u0243\u0249\u024f\u0246\u0529\u015d\u0436\u0200\u02a2"
+            + "\u026c\u021b\u02bd\u0246\u024c\u0243\u052c\u0160\u0203\u02a5\u0239\u026f\u028a\u02c0\u025b\u0255"
+            + "\u052f\u02a8\u023c\u0272\u01eb\u028d\u02c3\u0252\u025b\u0261\u0535\u0169\u020c\u02ae\u0278\u01f1"
+            + "\u0293\u02c9\u0252\u0264\u0255\u0267\u016f\u0212\u02b4\u0248\u01f7\u0299\u02cf\u026a\u0255\u0267"
+            + "\u053e\u0172\u0215\u02b7\u024b\u0281\u01fa\u02d2\u025b\u0267\u0541\u0175\u0218\u024e\u0284\u01fd"
+            + "\u029f\u02d5\u0264\u026a\u025b\u0261\u0544\u0178\u021b\u02bd\u0251\u0287\u0200\u02a2\u0261\u0267"
+            + "\u017b\u0454\u02c0\u0254\u0203\u02a5\u0276\u0270\u0279\u0457\u02c3\u0257\u02a8\u0279\u026d\u0276"
+            + "\u0184\u045d\u02c9\u025d\u020c\u02ae\u026d\u027f\u0279\u0270\u0282\u0187\u02cc\u020f\u02b1\u0270"
+            + "\u0282\u0276\u026d\u027f\u0285\u018d\u0466\u02d2\u0266\u0215\u02b7\u0276\u0282\u0279\u0190\u0469"
+            + "\u02d5\u0269\u0218\u0279\u027f\u0285\u0276\u0193\u046c\u026c\u021b\u02bd\u0282\u0279\u0562\u0196"
+            + "\u046f\u0239\u02a5\u0254\u0291\u028b\u0294\u0565\u0472\u023c\u02a8\u0257\u0294\u0288\u0291\u0297"
+            + "\u056b\u019f\u0478\u02ae\u025d\u0288\u0294\u028b\u029d\u056e\u01a2\u0245\u02b1\u028b\u029d\u0291"
+            + "\u0297\u0288\u02a0\u01a5\u047e\u0248\u02b4\u0263\u02a0\u0294\u028b\u029d\u0577\u01ab\u0484\u024e"
+            + "\u0269\u0294\u02a0\u0291\u0297\u057a\u01ae\u0487\u0251\u02bd\u026c\u0297\u029d\u0294\u057d\u01b1"
+            + "\u048a\u0254\u028a\u02c0\u0239\u026f\u02ac\u02a6\u02af\u0580\u048d\u0257\u028d\u02c3\u023c\u0272"
+            + "\u02af\u02a3\u02ac\u02b2\u0586\u01ba\u0493\u025d\u0293\u02c9\u0278\u02a3\u02b5\u02af\u02a6\u0589"
+            + "\u01bd\u0296\u02cc\u0245\u027b\u02a6\u02ac\u02b2\u02a3\u02b5\u02bb\u01c0\u0499\u0263\u0299\u02cf"
+            + "\u0248\u02bb\u02af\u02a6\u058f\u01c3\u049c\u0266\u02d2\u024b\u0281\u02ac\u02af\u0595\u01c9\u04a2"
+            + "\u026c\u02a2\u0251\u0287\u02b2\u02af\u0598\u01cc\u04a5\u026f\u02a5\u0254\u02c7\u02c1\u02ca\u059b"
+            + "\u04a8\u0272\u02a8\u0257\u02ca\u02be\u02c7\u02cd\u05a1\u01d5\u04ae\u0278\u02ae\u025d\u02be\u02d0"
+            + "\u02ca\u02c1\u02d3\u05a4\u01d8\u027b\u02b1\u02c1\u02d3\u02c7\u02cd\u02be\u02d0\u01db\u04b4\u02b4"
+            + "\u0263\u02ca\u02c1\u02d3\u05aa\u01de\u04b7\u0281\u02b7\u0266\u02c7\u02d3\u02ca\u05ad\u01e1\u04ba"
+            + "\u0284\u0269\u02ca\u02d0\u02c7\u02cd\u05b6\u03d0\u06a9\u034a\u02e5\u02df\u02e8\u05b9\u03d3\u00fa"
+            + "\u06ac\u02fc\u034d\u02e8\u02dc\u02e5\u05bf\u0100\u06b2\u0302\u02dc\u02ee\u02e8\u02df\u02eb\u02f1"
+            + "\u05c2\u03dc\u0103\u06b5\u0305\u0356\u02df\u02f1\u02e5\u02dc\u02ee\u03df\u0106\u06b8\u0308\u0359"
+            + "\u02ee\u02e5\u05c8\u03e2\u0109\u030b\u035c\u02e5\u02eb\u02f1\u02e8\u05cb\u03e5\u010c\u06be\u030e"
+            + "\u035f\u02e8\u02ee\u02e5\u05ce\u03e8\u06c1\u0347\u0311\u0362\u0300\"\u05d4\u03ee\u06c7\u034d"
+            + "\u02e1\u0368\u0303\u0300\u0028\u05da\u06cd\u02e7\u031d\u036e\u0309\u0303\u02f4\u02fa\u0306\u030c"
+            + "\u002b\u05dd\u03f7\u06d0\u0356\u02ea\u0320\u02fa\u030c\u0300\u0309\u002e\u03fa\u06d3\u0359\u02ed"
+            + "\u0323\u0374\u0309\u0300\u0031\u05e3\u03fd\u035c\u02f0\u0326\u0377\u0300\u0306\u030c\u0303\u0034"
+            + "\u05e6\u0400\u06d9\u035f\u02f3\u0329\u037a\u0303\u0309\u0300\u05e9\u0403\u012a\u06dc\u0362\u02f6"
+            + "\u0347\u0312\u031b\u003a\u05ec\u0406\u06df\u0365\u034a\u031b\u030f\u031e\u0043\u05f5\u0136\u06e8"
+            + "\u036e\u0302\u0312\u0324\u031e\u030f\u0321\u0327\u0046\u05f8\u0412\u0139\u06eb\u0305\u0356\u0327"
+            + "\u031b\u0312\u0324\u0049\u0415\u013c\u06ee\u0374\u0308\u0359\u0324\u031b\u004c\u05fe\u0418\u013f"
+            + "\u0377\u030b\u035c\u031b\u0321\u0327\u031e\u004f\u0601\u041b\u0142\u06f4\u037a\u030e\u035f\u031e"
+            + "\u0324\u031b\u061f\u0160\u0712\u02f6\u0398\u0362\u0311\u037d\u03b3\u0348\u0070\u0622\u0715\u039b"
+            + "\u0365\u02de\u0314\u0380\u03b6\u0345\u034b\u0354\u0073\u0625\u0166\u0718\u02fc\u039e\u0368\u02e1"
+            + "\u0383\u03b9\u0354\u0348\u007c\u062e\u016f\u0721\u0305\u03a7\u02ea\u0320\u038c\u03c2\u034b\u035d"
+            + "\u0348\u035a\u007f\u0172\u0724\u0308\u03aa\u0374\u02ed\u0323\u03c5\u035a\u0082\u0634\u0175\u030b"
+            + "\u0377\u02f0\u0326\u0392\u03c8\u0357\u035d\u0354\u0085\u0637\u0178\u072a\u030e\u03b0\u037a\u02f3"
+            + "\u0329\u0395\u0354\u035a\u063a\u0454\u017b\u072d\u0311\u03b3\u0347\u02f6\u0398\u0363\u036c\u008b"
+            + "\u063d\u0457\u0730\u0314\u03b6\u034a\u039b\u036c\u0360\u0366\u008e\u0640\u045a\u0181\u0733\u03b9"
+            + "\u034d\u02fc\u039e\u0363\u036c\u0094\u0646\u0187\u0739\u031d\u03bf\u0302\u03a4\u0363\u0375\u0360"
+            + "\u0366\u0372\u0378\u009a\u0466\u018d\u073f\u0323\u03c5\u0359\u0308\u03aa\u0375\u036c\u009d\u064f"
+            + "\u0469\u0190\u0326\u03c8\u035c\u030b\u036c\u0372\u0378\u00a0\u0652\u046c\u0193\u0745\u0329\u035f"
+            + "\u030e\u03b0\u0375\u036c\u046f\u0196\u0748\u0398\u0347\u037e\u0387\u00a6\u0472\u074b\u039b\u034a"
+            + "\u0387\u037b\u0381\u038a\u00a9\u0475\u019c\u074e\u039e\u034d\u038a\u037e\u0387\u00af\u01a2\u0754"
+            + "\u03a4\u037e\u0390\u038a\u037b\u0381\u0393\u00b2\u047e\u01a5\u0757\u03a7\u0356\u0381\u0393\u0387"
+            + "\u037e\u0390\u00b8\u0484\u01ab\u035c\u0387\u0393\u038a\u00bb\u0487\u01ae\u0760\u03b0\u035f\u038a"
+            + "\u0390\u0387\u0670\u048a\u01b1\u0347\u037d\u03b3\u0362\u0399\u03a2\u00c1\u0673\u048d\u034a\u0380"
+            + "\u03b6\u0365\u03a2\u0396\u039c\u03a5\u00c4\u0676\u0490\u01b7\u034d\u0383\u03b9\u0368\u03a5\u0399"
+            + "\u03a2\u00ca\u067c\u01bd\u0389\u03bf\u036e\u0399\u03a5\u0396\u039c\u03a8\u03ae\u00cd\u067f\u0499"
+            + "\u01c0\u0356\u038c\u03c2\u039c\u03ae\u03a2\u0399\u00d0\u049c\u01c3\u0359\u03c5\u0374\u03a2\u00d6"
+            + "\u0688\u04a2\u01c9\u035f\u0395\u037a\u03a5\u03a2\u068b\u04a5\u01cc\u077e\u0362\u0398\u0347\u03b4"
+            + "\u03bd\u00dc\u068e\u04a8\u0781\u0365\u039b\u034a\u03bd\u03b1\u03b7\u03c0\u00df\u0691\u04ab\u01d2"
+            + "\u0784\u0368\u039e\u034d\u03c0\u03b4\u03bd\u00e5\u0697\u01d8\u078a\u036e\u03a4\u03b4\u03c6\u03c0"
+            + "\u03b1\u03b7\u03c3\u00e8\u069a\u04b4\u01db\u078d\u03a7\u0356\u03b7\u03bd\u03b4\u03c6\u00eb\u04b7"
+            + "\u01de\u0790\u0374\u03aa\u0359\u03c6\u03bd\u00ee\u06a0\u04ba\u01e1\u0377\u035c\u03bd\u03c3\u03c0"
+            + "\u06a9\u02dd\u04c3\u01ea\u05b6\u079c\u0422\u03d2\u03d5\u03db\u00fa\u06ac\u02e0\u04c6\u05b9\u079f"
+            + "\u0425\u03ef\u03db\u03cf\u00fd\u06af\u04c9\u01f0\u05bc\u07a2\u03f2\u03de\u03cf\u03e1\u0103\u06b5"
+            + "\u02e9\u01f6\u05c2\u07a8\u042e\u03f8\u03d2\u03e4\u03cf\u03e1\u0106\u06b8\u02ec\u04d2\u01f9\u07ab"
+            + "\u0431\u03fb\u03d5\u03e1\u0109\u02ef\u04d5\u01fc\u05c8\u07ae\u0434\u03fe\u03de\u03e4\u03d5\u03db"
+            + "\u010c\u06be\u02f2\u04d8\u01ff\u05cb\u0437\u0401\u03db\u03e1\u06c1\u02f5\u04db\u0202\u05ce\u07b4"
+            + "\u0404\u041f\u0455\u03f0\u06c7\u02fb\u04e1\"\u05d4\u07ba\u03d4\u0425\u045b\u03f6\u06ca\u04e4"
+            + "\u0025\u020b\u05d7\u07bd\u03d7\u040d\u045e\u03e7\u03f9\u03fc\u06d0\u0304\u002b\u0211\u05dd\u07c3"
+            + "\u03dd\u0413\u042e\u03ed\u03ff\u03fc\u06d3\u0307\u04ed\u002e\u0214\u07c6\u03e0\u0416\u0431\u0467"
+            + "\u03f0\u03fc\u030a\u04f0\u0031\u0217\u05e3\u07c9\u03e3\u0419\u0434\u046a\u03f9\u03ff\u03f0\u03f6"
+            + "\u06d9\u030d\u04f3\u0034\u021a\u05e6\u03e6\u041c\u0437\u046d\u03f6\u03fc\u012a\u06dc\u0310\u04f6"
+            + "\u05e9\u07cf\u0455\u03e9\u040b\u0405\u06df\u0313\u04f9\u003a\u05ec\u07d2\u0458\u0402\u040b\u0411"
+            + "\u0133\u06e5\u04ff\u0040\u05f2\u07d8\u045e\u03f2\u0402\u0414\u0405\u0417\u0139\u06eb\u031f\u0046"
+            + "\u05f8\u07de\u03f8\u041a\u0405\u0417\u013c\u06ee\u0322\u0508\u0049\u07e1\u0467\u03fb\u040b\u0417"
+            + "\u013f\u0325\u050b\u004c\u05fe\u07e4\u046a\u03fe\u0414\u041a\u040b\u0411\u0142\u06f4\u0328\u050e"
+            + "\u004f\u0601\u046d\u0401\u0411\u0417\u0145\u06f7\u0511\u0238\u0604\u07ea\u0470\u03e9\u048b\u0420"
+            + "\u06fa\u0514\u0055\u023b\u0607\u07ed\u03d1\u0473\u048e\u041d\u0423\u042c\u014b\u06fd\u0517\u0058"
+            + "\u060a\u07f0\u03d4\u0476\u03ef\u0491\u042c\u0420\u0154\u0706\u0061\u0247\u0613\u07f9\u03dd\u047f"
+            + "\u03f8\u049a\u0423\u0435\u0420\u0432\u0157\u0709\u0523\u0064\u024a\u07fc\u03e0\u03fb\u049d\u0432"
+            + "\u015a\u0526\u0067\u024d\u0619\u07ff\u03e3\u0485\u03fe\u042f\u0435\u042c\u015d\u070f\u0529\u006a"
+            + "\u0250\u061c\u03e6\u0488\u0401\u04a3\u042c\u0432\u017b\u072d\u0361\u026e\u063a\u0820\u0404\u04a6"
+            + "\u03e9\u048b\u045c\u0456\u0730\u0364\u008b\u0271\u063d\u0823\u0407\u04a9\u048e\u0453\u0459\u045c"
+            + "\u0181\u0733\u0367\u008e\u0640\u0826\u04ac\u03ef\u0491\u0456\u0184\u0736\u0091\u0277\u0643\u0829"
+            + "\u040d\u04af\u03f2\u0494\u0453\u0465\u0456\u0468\u018d\u073f\u0373\u009a\u0280\u0832\u0416\u04b8"
+            + "\u03fb\u049d\u045c\u0468\u0190\u0376\u009d\u0283\u064f\u0835\u0419\u04bb\u03fe\u0465\u046b\u045c"
+            + "\u0193\u0745\u0379\u00a0\u0286\u0652\u041c\u0401\u04a3\u0468\u0196\u0748\u037c\u0562\u0289\u083b"
+            + "\u041f\u048b\u0477\u0471\u074b\u037f\u0565\u00a6\u028c\u083e\u0422\u048e\u046e\u0474\u0477\u047d"
+            + "\u019c\u074e\u0382\u0568\u00a9\u0841\u0425\u0491\u047d\u0471\u019f\u0751\u056b\u00ac\u0292\u0844"
+            + "\u0494\u046e\u0471\u0483\u01a5\u0757\u038b\u00b2\u0298\u084a\u042e\u049a\u0474\u0486\u0471\u0483"
+            + "\u01ab\u0391\u0577\u00b8\u029e\u0850\u0434\u0486\u0477\u047d\u01ae\u0760\u0394\u057a\u00bb\u02a1"
+            + "\u0437\u04a3\u047d\u0483\u01b1\u0397\u057d\u02a4\u0670\u0856\u0470\u04a6\u041f\u0455\u0492\u048c"
+            + "\u039a\u0580\u00c1\u02a7\u0673\u0859\u0473\u04a9\u0422\u0458\u0489\u048f\u0492\u0498\u01b7\u039d"
+            + "\u0583\u00c4\u0676\u085c\u0476\u04ac\u0425\u045b\u0498\u048c\u01ba\u0586\u00c7\u02ad\u0679\u085f"
+            + "\u0479\u04af\u045e\u0489\u049b\u048c\u01c0\u03a6\u00cd\u02b3\u067f\u0865\u047f\u04b5\u042e\u048f"
+            + "\u04a1\u048c\u01c3\u03a9\u058f\u00d0\u02b6\u0868\u04b8\u0431\u0467\u0492\u01c9\u03af\u0595\u00d6"
+            + "\u02bc\u0688\u0488\u0437\u046d\u0498\u01cc\u077e\u03b2\u0598\u02bf\u068b\u0455\u048b\u04ad\u04a7"
+            + "\u0781\u03b5\u059b\u00dc\u02c2\u068e\u0458\u048e\u04a4\u04aa\u04ad\u04b3\u01d2\u0784\u03b8\u059e"
+            + "\u00df\u0691\u045b\u0491\u04b3\u04a7\u01d5\u0787\u05a1\u00e2\u02c8\u0694\u045e\u0494\u04a4\u04b6"
+            + "\u04a7\u04b9\u01db\u078d\u03c1\u00e8\u02ce\u069a\u049a\u04aa\u04a7\u04b9\u01de\u0790\u03c4\u05aa"
+            + "\u00eb\u02d1\u0467\u049d\u04ad\u04b9\u01e1\u03c7\u05ad\u00ee\u02d4\u06a0\u046a\u04b6\u04ad\u04b3"
+            + "\u01ea\u079c\u03d0\u06a9\u0515\u0530\u04cb\u04c5\u04c8\u079f\u03d3\u00fa\u06ac\u0518\u04e2\u0533"
+            + "\u04c2\u04cb\u01f0\u07a2\u03d6\u00fd\u06af\u04e5\u0536\u04d1\u04cb\u04c2\u04d4\u01f3\u07a5\u0100"
+            + "\u06b2\u051e\u04e8\u04c2\u04d4\u04c8\u04c5\u04d1\u04d7\u01f9\u07ab\u03df\u0106\u06b8\u0524\u04ee"
+            + "\u053f\u04c8\u04d4\u04cb\u01fc\u07ae\u03e2\u0109\u0527\u04f1\u0542\u04cb\u04d1\u04d7\u04c8\u01ff"
+            + "\u03e5\u010c\u06be\u052a\u04f4\u0545\u04d4\u04cb\u0202\u07b4\u03e8\u06c1\u052d\u04f7\u0512\u04e3"
+            + "\u04e6\u07ba\u03ee\u06c7\u0533\u04c7\u0518\u04e6\u020b\u07bd\u03f1\u06ca\u0536\u04ca\u0500\u04da"
+            + "\u04ec\u04e6\u04ef\u020e\u07c0\u06cd\u04cd\u0503\u051e\u04ef\u04e3\u04da\u04e0\u04ec\u04f2\u0214"
+            + "\u07c6\u03fa\u06d3\u053f\u04d3\u0509\u0524\u04e3\u04ef\u04e6\u0217\u07c9\u03fd\u0542\u04d6\u050c"
+            + "\u0527\u04e6\u04ec\u04f2\u04e3\u021a\u0400\u06d9\u0545\u04d9\u050f\u052a\u04ef\u04e6\u07cf\u0403"
+            + "\u012a\u06dc\u04dc\u052d\u04fe\u04f8\u0501\u07d2\u0406\u06df\u0530\u0501\u04f5\u04fe\u07d8\u040c"
+            + "\u0133\u06e5\u04e5\u0536\u04f5\u0507\u0501\u04f8\u050a\u07db\u0136\u06e8\u04e8\u04f8\u050a\u04fe"
+            + "\u04f5\u0507\u050d\u07e1\u0415\u013c\u06ee\u04ee\u053f\u04fe\u050a\u0501\u07e4\u0418\u013f\u04f1"
+            + "\u0542\u0501\u0507\u050d\u04fe\u041b\u0142\u06f4\u04f4\u0545\u050a\u0501\u0238\u07ea\u041e\u0145"
+            + "\u06f7\u0563\u052d\u04dc\u057e\u0513\u051c\u023b\u07ed\u0421\u06fa\u04c4\u0566\u0530\u0581\u051c"
+            + "\u0510\u0516\u07f0\u0424\u014b\u06fd\u04c7\u0569\u0533\u04e2\u0584\u0513\u051c\u0244\u07f6\u0151"
+            + "\u0703\u04cd\u056f\u04e8\u058a\u0513\u0525\u0510\u0516\u0522\u0528\u024a\u07fc\u0430\u0157\u0709"
+            + "\u04d3\u053f\u04ee\u0590\u0525\u051c\u024d\u07ff\u0433\u015a\u04d6\u0578\u0542\u04f1\u051c\u0522"
+            + "\u0528\u0250\u0436\u015d\u070f\u04d9\u057b\u0545\u04f4\u0596\u0525\u051c\u0253\u0805\u0160\u0712"
+            + "\u04dc\u057e\u0512\u04f7\u0563\u0599\u0534\u052e\u0256\u0808\u0715\u0581\u0515\u04c4\u04fa\u0566"
+            + "\u059c\u052b\u0531\u0534\u080b\u0166\u0718\u04e2\u0584\u0518\u04c7\u0569\u059f\u052e\u025c\u080e"
+            + "\u0169\u071b\u04e5\u0587\u04ca\u0500\u056c\u05a2\u052b\u053d\u052e\u0540\u0265\u0817\u0172\u0724"
+            + "\u04ee\u0590\u0524\u04d3\u0509\u05ab\u0534\u0540\u0268\u081a\u0175\u04f1\u0527\u04d6\u050c\u0578"
+            + "\u05ae\u053d\u0543\u0534\u026b\u0178\u072a\u04f4\u0596\u052a\u04d9\u050f\u057b\u0540\u0289\u083b"
+            + "\u046f\u0196\u0748\u0512\u057e\u052d\u056a\u0564\u056d\u028c\u083e\u0472\u074b\u0515\u0581\u0530"
+            + "\u056d\u0561\u0567\u056a\u0841\u0475\u019c\u074e\u0518\u0584\u0533\u0564\u056d\u0292\u0844\u0478"
+            + "\u019f\u0751\u0587\u0536\u0561\u056d\u0564\u0576\u0295\u0847\u01a2\u0754\u051e\u058a\u0564\u0576"
+            + "\u056a\u0561\u0567\u0579\u029e\u0850\u0484\u01ab\u0527\u0542\u056d\u0579\u056a\u02a1\u0487\u01ae"
+            + "\u0760\u052a\u0596\u0545\u0576\u056d\u02a4\u0856\u048a\u01b1\u052d\u0563\u0599\u0512\u0585\u057f"
+            + "\u0588\u02a7\u0859\u048d\u0530\u0566\u059c\u0515\u0588\u057c\u0582\u0585\u085c\u0490\u01b7\u0533"
+            + "\u0569\u059f\u0518\u057f\u0588\u02ad\u085f\u0493\u01ba\u0536\u056c\u05a2\u057c\u058e\u0588\u057f"
+            + "\u02b0\u0862\u01bd\u056f\u05a5\u051e\u057f\u0585\u057c\u0582\u058e\u0594\u02b6\u0868\u049c\u01c3"
+            + "\u053f\u05ab\u0524\u0585\u0588\u02bc\u04a2\u01c9\u0545\u057b\u052a\u0588\u02bf\u04a5\u01cc\u077e"
+            + "\u057e\u052d\u05a0\u059a\u05a3\u02c2\u04a8\u0781\u0581\u0530\u05a3\u0597\u059d\u05a0\u04ab\u01d2"
+            + "\u0784\u0584\u0533\u059a\u05a3\u02c8\u04ae\u01d5\u0787\u0587\u0536\u0597\u05a9\u05a3\u059a\u05ac"
+            + "\u02cb\u01d8\u078a\u058a\u059a\u05ac\u05a0\u0597\u059d\u05a9\u02d1\u04b7\u01de\u0790\u0590\u053f"
+            + "\u05a0\u05ac\u05a3\u02d4\u04ba\u01e1\u0542\u05a3\u05a9\u05a0\u02dd\u06a9\u03d0\u0608\u0623\u05be"
+            + "\u05b8\u05bb\u05c1\u02e0\u06ac\u03d3\u060b\u05d5\u0626\u05c1\u05b5\u05be\u06af\u03d6\u05d8\u0629"
+            + "\u05be\u05b5\u05c7\u02e6\u06b2\u0611\u05db\u05b5\u05c7\u05bb\u05c1\u05b8\u05ca\u02e9\u06b5\u03dc"
+            + "\u0614\u05de\u062f\u05b8\u05ca\u05be\u05b5\u05c7\u02ef\u03e2\u061a\u05e4\u0635\u05be\u05ca\u05bb"
+            + "\u05c1\u02f2\u06be\u03e5\u061d\u05e7\u0638\u05c1\u05c7\u05be\u02f5\u06c1\u03e8\u0620\u05ea\u0605"
+            + "\u063b\u05d6\u05d9\u02fb\u06c7\u03ee\u0626\u05ba\u060b\u0641\u05dc\u05d9\u06ca\u03f1\u0629\u05bd"
+            + "\u05f3\u0644\u05cd\u05d9\u05e2\u0301\u06cd\u05c0\u05f6\u0611\u0647\u05e2\u05d6\u05dc\u05cd\u05d3"
+            + "\u05e5\u0304\u06d0\u03f7\u062f\u05c3\u05f9\u0614\u05d3\u05e5\u05d9\u05e2\u030a\u03fd\u0635\u05c9"
+            + "\u05ff\u061a\u0650\u05d9\u05e5\u05d6\u05dc\u030d\u06d9\u0400\u0638\u05cc\u0602\u061d\u0653\u05dc"
+            + "\u05e2\u05d9\u0310\u06dc\u0403\u063b\u05cf\u0620\u05f1\u05eb\u05f4\u0313\u06df\u0406\u063e\u0623"
+            + "\u05f4\u05e8\u05f1\u05f7\u06e5\u040c\u0644\u05d8\u0629\u05e8\u05f4\u05eb\u05fd\u031c\u06e8\u0647"
+            + "\u05db\u05eb\u05fd\u05f1\u05f7\u05e8\u0600\u031f\u06eb\u0412\u05de\u062f\u0600\u05f4\u05eb\u05fd"
+            + "\u0325\u0418\u0650\u05e4\u0635\u05f4\u0600\u05f1\u05f7\u0328\u06f4\u041b\u0653\u05e7\u0638\u05f7"
+            + "\u05fd\u05f4\u06f7\u041e\u0620\u05cf\u0671\u0606\u060f\u06fa\u0421\u05b7\u0623\u0674\u060f\u0603"
+            + "\u0609\u0612\u06fd\u0424\u05ba\u0626\u05d5\u0677\u0612\u0606\u060f\u0703\u05c0\u05db\u067d\u0606"
+            + "\u0618\u0612\u0603\u0609\u061b\u0706\u042d\u05c3\u062f\u05de\u0680\u0609\u061b\u060f\u0606\u0618"
+            + "\u0433\u05c9\u0635\u05e4\u060f\u061b\u0612\u070f\u0436\u05cc\u0638\u05e7\u0689\u0612\u0618\u060f"
+            + "\u0346\u0712\u05cf\u0671\u0605\u063b\u05ea\u068c\u0627\u0621\u0349\u0715\u0674\u0608\u063e\u05b7"
+            + "\u05ed\u068f\u061e\u0624\u0627\u062d\u034c\u0718\u05d5\u0677\u060b\u0641\u05ba\u0692\u062d\u0621"
+            + "\u071b\u05d8\u067a\u0644\u05bd\u05f3\u0695\u061e\u0621\u0633\u0355\u0721\u05de\u0680\u0614\u05c3"
+            + "\u05f9\u069b\u0624\u0636\u0621\u0633\u035b\u05e4\u061a\u0650\u05c9\u05ff\u06a1\u0636\u0627\u062d"
+            + "\u035e\u072a\u05e7\u0689\u061d\u0653\u05cc\u0602\u062d\u0633\u0361\u072d\u0454\u05ea\u068c\u0620"
+            + "\u05cf\u0671\u0642\u063c\u0645\u0364\u0730\u0457\u05ed\u068f\u0623\u0674\u0645\u0639\u063f\u0642"
+            + "\u0367\u0733\u045a\u0692\u0626\u05d5\u0677\u063c\u0645\u0736\u045d\u05f3\u0695\u0629\u05d8\u067a"
+            + "\u0639\u0645\u063c\u064e\u036d\u0739\u05f6\u0698\u05db\u067d\u063c\u064e\u0642\u0639\u063f\u0651"
+            + "\u0376\u0469\u05ff\u06a1\u0635\u05e4\u0645\u0651\u0642\u0379\u0745\u046c\u0602\u0638\u05e7\u0689"
+            + "\u064e\u0645\u0397\u048a\u0620\u068c\u0605\u063b\u0678\u0672\u067b\u039a\u048d\u0623\u068f\u0608"
+            + "\u063e\u067b\u066f\u0675\u0678\u067e\u039d\u0490\u0626\u0692\u060b\u0641\u067e\u0672\u067b\u0493"
+            + "\u0629\u0695\u0644\u066f\u067b\u0672\u03a3\u0698\u0611\u0647\u0672\u0678\u067e\u066f\u0675\u0687"
+            + "\u03a6\u0499\u062f\u069b\u0614\u0675\u0687\u067b\u0672\u03af\u04a2\u0638\u061d\u0653\u067e\u067b"
+            + "\u03b2\u077e\u04a5\u063b\u0671\u0620\u0693\u068d\u0696\u03b5\u0781\u04a8\u063e\u0674\u0623\u0696"
+            + "\u068a\u0690\u0693\u0699\u03b8\u0784\u04ab\u0641\u0677\u0626\u0699\u068d\u0696\u0787\u04ae\u0644"
+            + "\u067a\u0629\u068a\u0696\u068d\u069f\u03be\u078a\u0647\u067d\u068d\u069f\u0693\u0699\u068a\u0690"
+            + "\u03c1\u078d\u04b4\u0680\u062f\u0690\u0696\u068d\u069f\u03c7\u04ba\u0650\u0635\u0696\u0693\u0699"
+            + "\u03d0\u05b6\u079c\u02dd\u04c3\u06fb\u0716\u06b1\u06ab\u06ae\u06b4\u03d3\u05b9\u079f\u02e0\u04c6"
+            + "\u06fe\u06c8\u0719\u06b4\u06a8\u06b1\u03d6\u05bc\u07a2\u04c9\u06cb\u071c\u06b7\u06b1\u06a8\u05bf"
+            + "\u07a5\u02e6\u04cc\u0704\u06ce\u06a8\u06ae\u06b4\u06ab\u06b7\u06bd\u03dc\u05c2\u07a8\u02e9\u0707"
+            + "\u06d1\u0722\u06ab\u06bd\u06b1\u06a8\u03df\u07ab\u02ec\u04d2\u070a\u06d4\u0725\u06ae\u06b1\u03e5"
+            + "\u05cb\u02f2\u04d8\u0710\u06da\u072b\u06b4\u06b1\u03e8\u05ce\u07b4\u02f5\u04db\u0713\u06dd\u06f8"
+            + "\u072e\u06c9\u06cc\u03ee\u05d4\u07ba\u02fb\u04e1\u0719\u06ad\u06fe\u0734\u06cf\u06cc\u03f1\u05d7"
+            + "\u07bd\u04e4\u071c\u06b0\u06e6\u0737\u06c0\u06d2\u06cc\u05da\u07c0\u0301\u04e7\u06b3\u06e9\u0704"
+            + "\u073a\u06c9\u06cf\u06c0\u06c6\u06d2\u06d8\u03f7\u05dd\u07c3\u0304\u0722\u06b6\u06ec\u0707\u06c6"
+            + "\u06d8\u06cc\u03fa\u07c6\u0307\u04ed\u0725\u06b9\u06ef\u070a\u0740\u06c9\u06cc\u0400\u05e6\u030d"
+            + "\u04f3\u072b\u06bf\u06f5\u0710\u0746\u06cf\u06cc\u0403\u05e9\u07cf\u0310\u04f6\u072e\u06c2\u0713"
+            + "\u06e4\u06de\u06e7\u0406\u05ec\u07d2\u0313\u04f9\u0731\u0716\u06e7\u06db\u06e4\u06ea\u040c\u05f2"
+            + "\u07d8\u04ff\u0737\u06cb\u071c\u06db\u06ed\u06e7\u06de\u05f5\u07db\u031c\u0502\u073a\u06ce\u06de"
+            + "\u06e4\u06ea\u06db\u06ed\u06f3\u0412\u05f8\u07de\u031f\u06d1\u0722\u06f3\u06e7\u06de\u0415\u07e1"
+            + "\u0322\u0508\u0740\u06d4\u0725\u06e4\u06e7\u041b\u0601\u0328\u050e\u0746\u06da\u072b\u06ea\u06e7"
+            + "\u041e\u0604\u07ea\u0511\u0749\u0713\u06c2\u06f9\u0702\u0421\u0607\u07ed\u0514\u06aa\u074c\u0716"
+            + "\u0702\u06f6\u06fc\u0705\u0424\u060a\u07f0\u0517\u06ad\u074f\u0719\u06c8\u0705\u06f9\u0702\u0610"
+            + "\u07f6\u051d\u06b3\u0755\u06ce\u06f9\u0705\u06f6\u06fc\u0708\u070e\u042d\u0613\u07f9\u06b6\u0758"
+            + "\u0722\u06d1\u06fc\u070e\u0702\u06f9\u0430\u07fc\u0523\u06b9\u0725\u06d4\u0702\u0436\u061c\u0529"
+            + "\u06bf\u0761\u072b\u06da\u0705\u0702\u061f\u0805\u0346\u052c\u06c2\u06f8\u072e\u06dd\u0749\u077f"
+            + "\u071a\u0714\u0622\u0808\u0349\u052f\u06fb\u0731\u06aa\u06e0\u074c\u0782\u0711\u0717\u071a\u0720"
+            + "\u0625\u080b\u034c\u0532\u06c8\u06fe\u0734\u06ad\u074f\u0785\u0720\u0714\u0628\u080e\u0535\u06cb"
+            + "\u0737\u06b0\u06e6\u0752\u0788\u0711\u0723\u0714\u062e\u0814\u0355\u06d1\u0707\u06b6\u06ec\u0758"
+            + "\u078e\u0717\u0729\u0714\u0817\u0358\u053e\u06d4\u070a\u0740\u06b9\u06ef\u0791\u071a\u0637\u035e"
+            + "\u0544\u06da\u0710\u0746\u06bf\u06f5\u0761\u0720\u0454\u063a\u0820\u0361\u06dd\u077f\u0713\u06c2"
+            + "\u0735\u072f\u0738\u0457\u063d\u0823\u0364\u06e0\u0782\u0716\u0738\u072c\u0732\u0735\u045a\u0640"
+            + "\u0826\u0367\u0785\u0719\u06c8\u072f\u0738\u045d\u0643\u0829\u06e6\u0788\u071c\u06cb\u072c\u073e"
+            + "\u0738\u072f\u0646\u082c\u036d\u06e9\u078b\u06ce\u072f\u0735\u072c\u0732\u073e\u0744\u0466\u0832"
+            + "\u0373\u06ef\u0791\u0725\u06d4\u0735\u0738\u046c\u0652\u0379\u06f5\u072b\u06da\u0738\u046f\u083b"
+            + "\u037c\u0562\u06f8\u0713\u0750\u074a\u0753\u0472\u083e\u037f\u0565\u06fb\u0716\u0753\u0747\u074d"
+            + "\u0750\u0756\u0475\u0841\u0382\u0568\u06fe\u0719\u0756\u074a\u0753\u0478\u0844\u056b\u071c\u0747"
+            + "\u0753\u074a\u0847\u0388\u056e\u0704\u074a\u0750\u0756\u0747\u074d\u075f\u047e\u084a\u038b\u0707"
+            + "\u0722\u074d\u075f\u0753\u074a\u0487\u0394\u057a\u0710\u072b\u0756\u0753\u04a5\u068b\u03b2\u0598"
+            + "\u072e\u0713\u0786\u0780\u0789\u04a8\u068e\u03b5\u059b\u0731\u0716\u0789\u077d\u0783\u0786\u078c"
+            + "\u04ab\u0691\u03b8\u059e\u0734\u0719\u078c\u0780\u0789\u04ae\u0694\u05a1\u0737\u071c\u077d\u078f"
+            + "\u0789\u0780\u0697\u03be\u05a4\u073a\u0780\u0786\u078c\u077d\u0783\u078f\u04b4\u069a\u03c1\u0722"
+            + "\u0783\u0789\u0780\u04b7\u03c4\u05aa\u0740\u0725\u0786\u0789\u04c3\u06a9\u03d0\u07ee\u0809\u07a4"
+            + "\u079e\u07a1\u07a7\u04c6\u06ac\u03d3\u07f1\u07bb\u080c\u07a7\u079b\u07a4\u04c9\u06af\u03d6\u07be"
+            + "\u080f\u07aa\u07a4\u079b\u07ad\u04cc\u06b2\u07f7\u07c1\u079b\u07ad\u07a1\u07a7\u079e\u07aa\u06b5"
+            + "\u03dc\u07fa\u07c4\u0815\u079e\u07a4\u079b\u07ad\u04d2\u06b8\u03df\u07fd\u07c7\u0818\u07a1\u07ad"
+            + "\u07a4\u04d5\u03e2\u0800\u07ca\u081b\u07a4\u07aa\u07a1\u07a7\u04db\u06c1\u03e8\u0806\u07d0\u07eb"
+            + "\u0821\u07bc\u07bf\u04e1\u06c7\u03ee\u080c\u07a0\u07f1\u0827\u07c2\u07bf\u04e4\u06ca\u03f1\u080f"
+            + "\u07a3\u07d9\u082a\u07b3\u07c5\u07bf\u07c8\u04e7\u06cd\u07a6\u07dc\u07f7\u082d\u07c8\u07bc\u07c2"
+            + "\u07b3\u07b9\u07c5\u06d0\u03f7\u0815\u07a9\u07df\u07fa\u07b9\u07bf\u07c8\u04ed\u06d3\u03fa\u0818"
+            + "\u07ac\u07e2\u07fd\u0833\u07bc\u07c8\u07bf\u04f0\u03fd\u081b\u07af\u07e5\u0800\u0836\u07bf\u07c5"
+            + "\u07bc\u07c2\u04f6\u06dc\u0403\u0821\u07b5\u0806\u07d7\u07d1\u07da\u04f9\u06df\u0406\u0824\u0809"
+            + "\u07da\u07ce\u07d7\u07dd\u04ff\u06e5\u040c\u082a\u07be\u080f\u07ce\u07e0\u07da\u07d1\u07e3\u0502"
+            + "\u06e8\u082d\u07c1\u07d1\u07e3\u07d7\u07dd\u07ce\u07e0\u06eb\u0412\u07c4\u0815\u07da\u07d1\u07e3"
+            + "\u0508\u06ee\u0415\u0833\u07c7\u0818\u07d7\u07e3\u07da\u050b\u0418\u0836\u07ca\u081b\u07da\u07e0"
+            + "\u07d7\u07dd\u0511\u06f7\u041e\u083c\u0806\u07b5\u0857\u07ec\u07f5\u0514\u06fa\u0421\u079d\u083f"
+            + "\u0809\u085a\u07f5\u07e9\u07ef\u07f8\u0517\u06fd\u0424\u07a0\u0842\u080c\u07bb\u085d\u07f8\u07ec"
+            + "\u07f5\u051d\u0703\u07a6\u0848\u07c1\u0863\u07ec\u07fe\u07f8\u07e9\u07ef\u07fb\u0706\u042d\u07a9"
+            + "\u084b\u0815\u07c4\u0866\u07ef\u07f5\u07ec\u07fe\u0523\u0709\u0430\u07ac\u0818\u07c7\u0869\u07fe"
+            + "\u07f5\u0526\u0433\u07af\u0851\u081b\u07ca\u07f5\u07fb\u07f8\u052c\u0712\u07b5\u0857\u07eb\u0821"
+            + "\u07d0\u083c\u080d\u0807\u052f\u0715\u085a\u07ee\u0824\u079d\u07d3\u083f\u0804\u080a\u080d\u0813"
+            + "\u0532\u0718\u07bb\u085d\u07f1\u0827\u07a0\u0842\u0813\u0807\u0535\u071b\u07be\u0860\u082a\u07a3"
+            + "\u07d9\u0845\u0804\u0816\u0807\u0819\u0721\u07c4\u0866\u07fa\u07a9\u07df\u084b\u080a\u0807\u0819"
+            + "\u053e\u0724\u07c7\u0869\u07fd\u0833\u07ac\u07e2\u080d\u0819\u0541\u07ca\u0800\u0836\u07af\u07e5"
+            + "\u0851\u0816\u080d\u0813\u072d\u0454\u07d0\u0806\u07b5\u0857\u0828\u0822\u082b\u0730\u0457\u07d3"
+            + "\u0809\u085a\u082b\u081f\u0825\u0828\u0733\u045a\u080c\u07bb\u085d\u0822\u082b\u0736\u045d\u07d9"
+            + "\u080f\u07be\u0860\u081f\u0831\u082b\u0822\u0834\u0739\u07dc\u07c1\u0863\u0822\u0834\u0828\u081f"
+            + "\u0825\u0831\u073f\u0466\u07e2\u0818\u07c7\u0869\u0828\u0834\u082b\u0469\u07e5\u081b\u07ca\u082b"
+            + "\u0831\u0828\u0562\u0748\u046f\u07eb\u0857\u0806\u0843\u083d\u0846\u0565\u074b\u0472\u07ee\u085a"
+            + "\u0809\u0846\u083a\u0840\u0843\u0849\u0568\u074e\u0475\u07f1\u085d\u080c\u0849\u083d\u0846\u056b"
+            + "\u0751\u0478\u0860\u080f\u083a\u0846\u083d\u084f\u056e\u0754\u07f7\u0863\u083d\u084f\u0843\u0849"
+            + "\u083a\u0840\u0757\u047e\u07fa\u0866\u0815\u0840\u0846\u083d\u084f\u0577\u0484\u0800\u081b\u0846"
+            + "\u0843\u0849\u057d\u048a\u0806\u083c\u07eb\u0821\u085e\u0858\u0861\u0580\u048d\u0809\u083f\u07ee"
+            + "\u0824\u0861\u0855\u085b\u085e\u0864\u0583\u0490\u080c\u0842\u07f1\u0827\u0864\u0858\u0861\u0586"
+            + "\u0493\u080f\u0845\u082a\u0855\u0867\u0861\u0858\u0589\u0848\u07f7\u082d\u0858\u085e\u0864\u0855"
+            + "\u085b\u0867\u0499\u0815\u084b\u07fa\u085b\u0861\u0858\u058f\u049c\u0818\u07fd\u0833\u085e\u0861";
+
+    // King-move distance between cells, indexed [from * 9 + to].
+    private static final String CELL_DISTANCE =
+            "\u0000\u0001\u0002\u0001\u0001\u0002\u0002\u0002\u0002\u0001\u0000\u0001\u0001\u0001\u0001\u0002"
+            + "\u0002\u0002\u0002\u0001\u0000\u0002\u0001\u0001\u0002\u0002\u0002\u0001\u0001\u0002\u0000\u0001"
+            + "\u0002\u0001\u0001\u0002\u0001\u0001\u0001\u0001\u0000\u0001\u0001\u0001\u0001\u0002\u0001\u0001"
+            + "\u0002\u0001\u0000\u0002\u0001\u0001\u0002\u0002\u0002\u0001\u0001\u0002\u0000\u0001\u0002\u0002"
+            + "\u0002\u0002\u0001\u0001\u0001\u0001\u0000\u0001\u0002\u0002\u0002\u0002\u0001\u0001\u0002\u0001"
+            + "\u0000";
+
+    private StandardTables() {
+    }
+
+    static int[][] successors() {
+        int[][] table = new int[STATE_COUNT][];
+        for (int id = 0; id < STATE_COUNT; id++) {
+            int from = OFFSETS.charAt(id);
+            int[] succ = new int[OFFSETS.charAt(id + 1) - from];
+            for (int i = 0; i < succ.length; i++) {
+                succ[i] = SUCCESSORS.charAt(from + i);
+            }
+            table[id] = succ;
+        }
+        return table;
+    }
+
+    static int cellDistance(int from, int to) {
+        return CELL_DISTANCE.charAt(from * 9 + to);
+    }
+}
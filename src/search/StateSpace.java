@@ -0,0 +1,183 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+import model.Position;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact integer encoding of puzzle states plus a precomputed successor table
+ * for one set of {@link MoveRules}.
+ *
+ * A state id packs the cell index (row * 3 + col) of R, G and B together with
+ * the turn index: {@code id = ((r * 9 + g) * 9 + b) * turns + turnIndex}. The
+ * whole 3x3 space fits in a few thousand ids, so per-state data can live in
+ * plain arrays indexed by id instead of hash maps, and the search never looks
+ * at the rules themselves, only at the compiled successor table.
+ */
+public final class StateSpace {
+
+    private static final int CELLS = 9;
+    private static final int[] NO_SUCCESSORS = new int[0];
+
+    private static final Map<MoveRules, StateSpace> SPACES = new ConcurrentHashMap<>();
+
+    private final MoveRules rules;
+    private final int turns;
+    private final int[][] successors;
+    private volatile int[][] predecessors;
+
+    private StateSpace(MoveRules rules, boolean usePrecomputed) {
+        this.rules = rules;
+        this.turns = rules.turnCount();
+        int count = CELLS * CELLS * CELLS * turns;
+        if (usePrecomputed && StandardTables.RULES.equals(rules.toString()) && StandardTables.STATE_COUNT == count) {
+            // Generated at build time by tools.GenerateTables, so start-up skips the move generation.
+            successors = StandardTables.successors();
+            return;
+        }
+        successors = new int[count][];
+        for (int id = 0; id < count; id++) {
+            successors[id] = isValid(id) ? computeSuccessors(id) : NO_SUCCESSORS;
+        }
+    }
+
+    public static StateSpace standard() {
+        return of(MoveRules.standard());
+    }
+
+    /**
+     * The (cached) space for the given rules; successor tables are built on first use.
+     */
+    public static StateSpace of(MoveRules rules) {
+        return SPACES.computeIfAbsent(rules, r -> new StateSpace(r, true));
+    }
+
+    /**
+     * A fresh space whose tables are computed from the rules, ignoring any
+     * precomputed ones. Used by the table generator.
+     */
+    public static StateSpace compute(MoveRules rules) {
+        return new StateSpace(rules, false);
+    }
+
+    public MoveRules getRules() {
+        return rules;
+    }
+
+    public int stateCount() {
+        return successors.length;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the state's turn does not follow these rules
+     */
+    public int encode(GameState s) {
+        int turn = s.getTurnIndex();
+        if (turn >= turns || rules.tileForTurn(turn) != s.getNextTile()) {
+            throw new IllegalArgumentException("State " + s + " does not follow the turn order of " + rules);
+        }
+        int cells = (cellOf(s.getRPos()) * CELLS + cellOf(s.getGPos())) * CELLS + cellOf(s.getBPos());
+        return cells * turns + turn;
+    }
+
+    public GameState decode(int id) {
+        int turn = turn(id);
+        return new GameState(positionOf(rCell(id)), positionOf(gCell(id)), positionOf(bCell(id)),
+                rules.tileForTurn(turn), turn);
+    }
+
+    public int rCell(int id) {
+        return id / (turns * CELLS * CELLS);
+    }
+
+    public int gCell(int id) {
+        return id / (turns * CELLS) % CELLS;
+    }
+
+    public int bCell(int id) {
+        return id / turns % CELLS;
+    }
+
+    public int turn(int id) {
+        return id % turns;
+    }
+
+    /**
+     * Successor ids of the given state. The returned array is shared and must not be modified.
+     */
+    public int[] successors(int id) {
+        return successors[id];
+    }
+
+    /**
+     * Ids of the states that have the given state as a successor, built on
+     * first use by inverting the successor table. Shared; must not be modified.
+     */
+    public int[] predecessors(int id) {
+        int[][] table = predecessors;
+        if (table == null) {
+            table = invertSuccessors();
+        }
+        return table[id];
+    }
+
+    private synchronized int[][] invertSuccessors() {
+        if (predecessors != null) {
+            return predecessors;
+        }
+        int[] counts = new int[successors.length];
+        for (int[] succ : successors) {
+            for (int s : succ) {
+                counts[s]++;
+            }
+        }
+        int[][] table = new int[successors.length][];
+        for (int id = 0; id < table.length; id++) {
+            table[id] = counts[id] == 0 ? NO_SUCCESSORS : new int[counts[id]];
+            counts[id] = 0;
+        }
+        for (int id = 0; id < successors.length; id++) {
+            for (int s : successors[id]) {
+                table[s][counts[s]++] = id;
+            }
+        }
+        predecessors = table;
+        return table;
+    }
+
+    /**
+     * Id of the state with tiles on the given cells and the given turn index;
+     * the cells must be distinct.
+     */
+    int idOf(int r, int g, int b, int turn) {
+        return ((r * CELLS + g) * CELLS + b) * turns + turn;
+    }
+
+    public static int cellOf(Position p) {
+        return p.getRow() * 3 + p.getCol();
+    }
+
+    public static Position positionOf(int cell) {
+        return new Position(cell / 3, cell % 3);
+    }
+
+    private boolean isValid(int id) {
+        int r = rCell(id);
+        int g = gCell(id);
+        int b = bCell(id);
+        return r != g && r != b && g != b;
+    }
+
+    private int[] computeSuccessors(int id) {
+        List<GameState> succ = decode(id).generateSuccessors(rules);
+        int[] ids = new int[succ.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = encode(succ.get(i));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,145 @@
+package search;
+
+import model.GoalPattern;
+import model.MoveRules;
+import model.TileColor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A stronger admissible heuristic than Hamming that accounts for the turn order.
+ *
+ * A tile that is k moves away from its goal cell (on an empty board, under the
+ * rules' move type) cannot arrive before it has had k turns, and only one
+ * tile moves per ply. The estimate is the largest, over the three tiles, of
+ * the number of plies until that tile has had enough turns. It is consistent:
+ * one ply either moves a tile one step closer at best, or passes a turn that
+ * belonged to another tile.
+ *
+ * A misplaced tile that never gets a turn makes the goal unreachable; the
+ * estimate is then {@link #UNREACHABLE}.
+ */
+public final class TurnAwareHeuristic {
+
+    /** Larger than any real distance, but small enough that g + h cannot overflow. */
+    public static final int UNREACHABLE = 1 << 20;
+
+    private static final int CELLS = 9;
+    private static final Map<MoveRules, TurnAwareHeuristic> CACHE = new ConcurrentHashMap<>();
+
+    private final int turns;
+    private final int[][] cellDistance;
+    // plies[turn][tile][k]: plies from that turn until the tile has moved k times.
+    private final int[][][] plies;
+
+    private TurnAwareHeuristic(MoveRules rules) {
+        this.turns = rules.turnCount();
+        this.cellDistance = new int[CELLS][];
+        for (int from = 0; from < CELLS; from++) {
+            cellDistance[from] = distancesFrom(rules, from);
+        }
+        this.plies = new int[turns][TileColor.values().length][CELLS];
+        for (int t = 0; t < turns; t++) {
+            for (TileColor tile : TileColor.values()) {
+                int[] row = plies[t][tile.ordinal()];
+                Arrays.fill(row, UNREACHABLE);
+                row[0] = 0;
+                int moves = 0;
+                // Every tile in the order has had a turn after one full cycle.
+                for (int p = 1; p <= turns * CELLS && moves + 1 < CELLS; p++) {
+                    if (rules.tileForTurn((t + p - 1) % turns) == tile) {
+                        row[++moves] = p;
+                    }
+                }
+            }
+        }
+    }
+
+    public static TurnAwareHeuristic of(MoveRules rules) {
+        TurnAwareHeuristic h = CACHE.get(rules);
+        if (h == null) {
+            TurnAwareHeuristic created = new TurnAwareHeuristic(rules);
+            h = CACHE.putIfAbsent(rules, created);
+            if (h == null) {
+                h = created;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Minimum number of moves a lone tile needs between two cells, or
+     * {@link #UNREACHABLE}.
+     */
+    public int cellDistance(int from, int to) {
+        return cellDistance[from][to];
+    }
+
+    public int estimate(StateSpace space, int stateId, int goalR, int goalG, int goalB) {
+        int[][] byTile = plies[space.turn(stateId)];
+        int h = pliesFor(byTile[TileColor.R.ordinal()], cellDistance[space.rCell(stateId)][goalR]);
+        h = Math.max(h, pliesFor(byTile[TileColor.G.ordinal()], cellDistance[space.gCell(stateId)][goalG]));
+        return Math.max(h, pliesFor(byTile[TileColor.B.ordinal()], cellDistance[space.bCell(stateId)][goalB]));
+    }
+
+    /**
+     * Per tile (by ordinal) and cell, the fewest moves to any cell the
+     * pattern allows that tile, or {@link #UNREACHABLE}; the table
+     * {@link #estimate(StateSpace, int, int[][])} takes.
+     */
+    public int[][] distancesTo(GoalPattern goal) {
+        int[][] toGoal = new int[TileColor.values().length][CELLS];
+        for (TileColor tile : TileColor.values()) {
+            int mask = goal.mask(tile);
+            for (int from = 0; from < CELLS; from++) {
+                int best = UNREACHABLE;
+                for (int to = 0; to < CELLS; to++) {
+                    if ((mask & 1 << to) != 0) {
+                        best = Math.min(best, cellDistance[from][to]);
+                    }
+                }
+                toGoal[tile.ordinal()][from] = best;
+            }
+        }
+        return toGoal;
+    }
+
+    /**
+     * Same estimate towards a goal pattern, given its {@link #distancesTo} table.
+     */
+    public int estimate(StateSpace space, int stateId, int[][] toGoal) {
+        int[][] byTile = plies[space.turn(stateId)];
+        int h = pliesFor(byTile[TileColor.R.ordinal()], toGoal[TileColor.R.ordinal()][space.rCell(stateId)]);
+        h = Math.max(h, pliesFor(byTile[TileColor.G.ordinal()], toGoal[TileColor.G.ordinal()][space.gCell(stateId)]));
+        return Math.max(h, pliesFor(byTile[TileColor.B.ordinal()], toGoal[TileColor.B.ordinal()][space.bCell(stateId)]));
+    }
+
+    private static int pliesFor(int[] pliesByMoves, int moves) {
+        // Reachable cells are at most 8 moves apart.
+        return moves >= CELLS ? UNREACHABLE : pliesByMoves[moves];
+    }
+
+    private static int[] distancesFrom(MoveRules rules, int from) {
+        int[] dist = new int[CELLS];
+        Arrays.fill(dist, UNREACHABLE);
+        dist[from] = 0;
+        int[] queue = new int[CELLS];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int[] ray : rules.raysFrom(cell)) {
+                for (int target : ray) {
+                    if (dist[target] == UNREACHABLE) {
+                        dist[target] = dist[cell] + 1;
+                        queue[tail++] = target;
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+}
@@ -0,0 +1,55 @@
+package search;
+
+/**
+ * Best known path cost (g) per state id, the one per-state table A* keeps.
+ *
+ * The search uses lazy deletion: a popped node whose g is larger than the
+ * stored g is stale and skipped, so no separate closed set is needed. The
+ * off-heap kinds keep this table outside the Java heap, so it does not
+ * inflate the heap or GC pauses. Nothing else moves: the node arena and open
+ * list, which grow with the nodes generated, stay on the heap.
+ */
+public interface VisitedStore {
+
+    /** Returned by {@link #get} for states that were never stored. */
+    int UNSEEN = Integer.MAX_VALUE;
+
+    enum Kind {
+        /** One int per state in an on-heap array; fastest for small spaces. */
+        HEAP,
+        /**
+         * 2, 4 or 8 bits per state in a direct buffer, whichever fits the
+         * largest g; for spaces whose ids are dense ranks.
+         */
+        PACKED_OFF_HEAP,
+        /** Open-addressing table in a direct buffer; memory follows the states actually reached. */
+        HASH_OFF_HEAP
+    }
+
+    int get(long stateId);
+
+    /**
+     * @param g at most the maxG the store was created with
+     */
+    void put(long stateId, int g);
+
+    /**
+     * @param stateCount number of state ids (ids are 0 .. stateCount - 1)
+     * @param maxG       largest g that will be stored
+     * @throws IllegalArgumentException when the kind cannot hold that many states or that large a g
+     */
+    static VisitedStore create(Kind kind, long stateCount, int maxG) {
+        switch (kind) {
+            case PACKED_OFF_HEAP:
+                return new PackedVisitedStore(stateCount, maxG);
+            case HASH_OFF_HEAP:
+                return new HashVisitedStore(1024);
+            case HEAP:
+            default:
+                if (stateCount > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Too many states for an on-heap store: " + stateCount);
+                }
+                return new HeapVisitedStore((int) stateCount);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package tools;
+
+import model.GameState;
+import model.MoveRules;
+import model.Position;
+import search.Engines;
+import search.SearchBudget;
+import search.SearchEngine;
+import search.SearchResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs an engine over the whole (initial, goal) instance space, or a random
+ * sample of it, and writes a plain-text report that can be diffed against an
+ * earlier run to catch regressions.
+ *
+ * Usage:
+ *   java -cp bin tools.CorpusReport run [--engine astar] [--max-depth 10]
+ *                                       [--sample N] [--seed S] [--warmup N] [--out report.txt]
+ *                                       [--timeout-ms T] [--max-expansions N] [--rules eight:RGB]
+ *   java -cp bin tools.CorpusReport diff base.txt candidate.txt [--tolerance 0.10]
+ *
+ * The report is one "key value" pair per line. Every placement of R, G and B
+ * on distinct cells (9 * 8 * 7 = 504) is used as both initial and goal, with R
+ * to move first like in the GUI, so the full corpus is 504 * 504 instances.
+ * With --rules (see {@link MoveRules#parse}) the first tile of that turn
+ * order moves first instead.
+ */
+public final class CorpusReport {
+
+    private static final int WORST_INSTANCES = 10;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private CorpusReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        Map<String, String> options = parseOptions(args);
+        if ("run".equals(args[0])) {
+            MoveRules rules = options.containsKey("rules")
+                    ? MoveRules.parse(options.get("rules")) : MoveRules.standard();
+            String report = run(
+                    Engines.byName(options.getOrDefault("engine", "astar"), rules),
+                    rules,
+                    Integer.parseInt(options.getOrDefault("max-depth", "10")),
+                    Integer.parseInt(options.getOrDefault("sample", "0")),
+                    Long.parseLong(options.getOrDefault("seed", "1")),
+                    Integer.parseInt(options.getOrDefault("warmup", "2000")),
+                    budgetFrom(options));
+            String out = options.get("out");
+            if (out == null) {
+                System.out.print(report);
+            } else {
+                Files.write(Paths.get(out), report.getBytes(StandardCharsets.UTF_8));
+            }
+        } else if ("diff".equals(args[0]) && args.length >= 3) {
+            double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.10"));
+            boolean regressed = diff(read(Paths.get(args[1])), read(Paths.get(args[2])), tolerance, System.out);
+            if (regressed) {
+                System.exit(1);
+            }
+        } else {
+            usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("usage: CorpusReport run [--engine " + String.join("|", Engines.names())
+                + "] [--max-depth N] [--sample N] [--seed S] [--warmup N] [--out file]"
+                + " [--timeout-ms T] [--max-expansions N] [--rules <moves>:<turns>[:wrap]]");
+        System.out.println("       CorpusReport diff <base> <candidate> [--tolerance 0.10]");
+    }
+
+    /**
+     * All placements of R, G, B on distinct cells, R to move.
+     */
+    public static List<GameState> allPlacements() {
+        return allPlacements(MoveRules.standard());
+    }
+
+    /**
+     * All placements of R, G, B on distinct cells, at the start of the rules' turn order.
+     */
+    public static List<GameState> allPlacements(MoveRules rules) {
+        List<GameState> placements = new ArrayList<>();
+        for (int r = 0; r < 9; r++) {
+            for (int g = 0; g < 9; g++) {
+                for (int b = 0; b < 9; b++) {
+                    if (r == g || r == b || g == b) {
+                        continue;
+                    }
+                    placements.add(rules.initialState(cell(r), cell(g), cell(b)));
+                }
+            }
+        }
+        return placements;
+    }
+
+    private static Position cell(int index) {
+        return new Position(index / 3, index % 3);
+    }
+
+    private static SearchBudget budgetFrom(Map<String, String> options) {
+        SearchBudget budget = SearchBudget.unlimited();
+        if (options.containsKey("timeout-ms")) {
+            budget = budget.withTimeout(Long.parseLong(options.get("timeout-ms")), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey("max-expansions")) {
+            budget = budget.withMaxExpansions(Long.parseLong(options.get("max-expansions")));
+        }
+        return budget;
+    }
+
+    static String run(SearchEngine engine, MoveRules rules, int maxDepth, int sample, long seed, int warmup, SearchBudget budget) {
+        List<GameState> placements = allPlacements(rules);
+        int n = placements.size();
+        long total = (long) n * n;
+        int count = sample > 0 ? (int) Math.min(sample, total) : (int) total;
+        Random rnd = new Random(seed);
+
+        for (int i = 0; i < warmup; i++) {
+            engine.solve(placements.get(rnd.nextInt(n)), placements.get(rnd.nextInt(n)), maxDepth);
+        }
+
+        long[] expanded = new long[count];
+        long[] latency = new long[count];
+        SortedMap<Integer, Integer> costs = new TreeMap<>();
+        int unsolved = 0;
+        int exhausted = 0;
+        PriorityQueue<long[]> worst = new PriorityQueue<>(Comparator.comparingLong((long[] w) -> w[0]));
+
+        for (int i = 0; i < count; i++) {
+            long pair = sample > 0 ? (long) (rnd.nextDouble() * total) : i;
+            GameState initial = placements.get((int) (pair / n));
+            GameState goal = placements.get((int) (pair % n));
+
+            long start = System.nanoTime();
+            SearchResult result = engine.solve(initial, goal, maxDepth, budget);
+            latency[i] = System.nanoTime() - start;
+            expanded[i] = result.getStats().getExpandedNodes();
+
+            if (result.isSolved()) {
+                costs.merge(result.getCost(), 1, Integer::sum);
+            } else if (result.getStatus() == SearchResult.Status.BUDGET_EXHAUSTED) {
+                exhausted++;
+            } else {
+                unsolved++;
+            }
+            worst.add(new long[]{expanded[i], pair});
+            if (worst.size() > WORST_INSTANCES) {
+                worst.poll();
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# corpus report\n");
+        sb.append("engine ").append(engine.getName()).append('\n');
+        sb.append("rules ").append(rules).append('\n');
+        sb.append("max-depth ").append(maxDepth).append('\n');
+        sb.append("instances ").append(count).append('\n');
+        sb.append("solved ").append(count - unsolved - exhausted).append('\n');
+        sb.append("unsolved-within-limit ").append(unsolved).append('\n');
+        sb.append("budget-exhausted ").append(exhausted).append('\n');
+        for (Map.Entry<Integer, Integer> e : costs.entrySet()) {
+            sb.append("cost.").append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+        }
+        appendDistribution(sb, "expanded", expanded, 1);
+        appendDistribution(sb, "latency-us", latency, 1000);
+
+        List<long[]> worstList = new ArrayList<>(worst);
+        worstList.sort((a, b) -> Long.compare(b[0], a[0]));
+        for (int i = 0; i < worstList.size(); i++) {
+            long pair = worstList.get(i)[1];
+            sb.append("worst.").append(i + 1).append(' ')
+                    .append(placements.get((int) (pair / n)).toBoardString()).append("->")
+                    .append(placements.get((int) (pair % n)).toBoardString())
+                    .append(" expanded=").append(worstList.get(i)[0]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendDistribution(StringBuilder sb, String name, long[] values, long divisor) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long v : sorted) {
+            sum += v;
+        }
+        double mean = sorted.length == 0 ? 0 : (double) sum / sorted.length / divisor;
+        sb.append(name).append(".mean ").append(String.format(Locale.ROOT, "%.2f", mean)).append('\n');
+        for (double p : PERCENTILES) {
+            sb.append(name).append(".p").append(formatPercentile(p)).append(' ')
+                    .append(percentile(sorted, p) / divisor).append('\n');
+        }
+        sb.append(name).append(".max ").append(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / divisor)
+                .append('\n');
+    }
+
+    private static String formatPercentile(double p) {
+        return p == Math.rint(p) ? Integer.toString((int) p) : Double.toString(p);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    /**
+     * Prints every differing key and flags regressions: any change in the solved
+     * counts or cost distribution (a correctness change), and expansion or
+     * latency figures that grew by more than the given relative tolerance.
+     *
+     * @return true when at least one regression was found
+     */
+    static boolean diff(Map<String, String> base, Map<String, String> candidate, double tolerance, PrintStream out) {
+        Set<String> keys = new TreeSet<>(base.keySet());
+        keys.addAll(candidate.keySet());
+        boolean regressed = false;
+        for (String key : keys) {
+            String a = base.get(key);
+            String b = candidate.get(key);
+            if (Objects.equals(a, b)) {
+                continue;
+            }
+            String verdict = "changed";
+            if (key.startsWith("cost.") || key.equals("solved") || key.equals("unsolved-within-limit")
+                    || key.equals("budget-exhausted")) {
+                verdict = "MISMATCH";
+                regressed = true;
+            } else if (key.startsWith("expanded.") || key.startsWith("latency-us.")) {
+                double before = a == null ? 0 : Double.parseDouble(a);
+                double after = b == null ? 0 : Double.parseDouble(b);
+                if (after > before * (1 + tolerance)) {
+                    verdict = "REGRESSION";
+                    regressed = true;
+                } else if (after < before) {
+                    verdict = "improved";
+                }
+            }
+            out.println(verdict + " " + key + ": " + a + " -> " + b);
+        }
+        if (!base.containsKey("instances") || !Objects.equals(base.get("instances"), candidate.get("instances"))) {
+            out.println("warning: reports cover different instance sets");
+        }
+        return regressed;
+    }
+
+    private static Map<String, String> read(Path file) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            if (space > 0) {
+                values.put(line.substring(0, space), line.substring(space + 1));
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                options.put(args[i].substring(2), args[++i]);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,127 @@
+package tools;
+
+import model.MoveRules;
+import search.StateSpace;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build step that writes src/search/StandardTables.java: the successor table
+ * of the standard 3x3 game and the cell-to-cell king-move distances, packed
+ * into string constants. Loading a string constant is far cheaper at start-up
+ * than running the move generator, and unlike a large array initializer it
+ * does not run into the 64 KB method size limit.
+ *
+ * Usage: java -cp bin tools.GenerateTables [output file]
+ */
+public final class GenerateTables {
+
+    private static final int CHARS_PER_LINE = 16;
+
+    private GenerateTables() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(args.length > 0 ? args[0] : "src/search/StandardTables.java");
+        MoveRules rules = MoveRules.standard();
+        StateSpace space = StateSpace.compute(rules);
+
+        int count = space.stateCount();
+        StringBuilder offsets = new StringBuilder();
+        StringBuilder successors = new StringBuilder();
+        for (int id = 0; id < count; id++) {
+            offsets.append((char) successors.length());
+            for (int succ : space.successors(id)) {
+                successors.append((char) succ);
+            }
+        }
+        offsets.append((char) successors.length());
+        if (successors.length() > Character.MAX_VALUE) {
+            throw new IllegalStateException("Successor table too large for char offsets");
+        }
+
+        StringBuilder distances = new StringBuilder();
+        for (int from = 0; from < 9; from++) {
+            for (int to = 0; to < 9; to++) {
+                distances.append((char) Math.max(Math.abs(from / 3 - to / 3), Math.abs(from % 3 - to % 3)));
+            }
+        }
+
+        StringBuilder src = new StringBuilder();
+        src.append("package search;\n\n");
+        src.append("/**\n");
+        src.append(" * Precomputed tables for the standard game (").append(rules).append(").\n");
+        src.append(" *\n");
+        src.append(" * GENERATED by tools.GenerateTables; do not edit. Regenerate after changing\n");
+        src.append(" * the standard rules or the state id encoding in StateSpace.\n");
+        src.append(" */\n");
+        src.append("final class StandardTables {\n\n");
+        src.append("    static final String RULES = \"").append(rules).append("\";\n");
+        src.append("    static final int STATE_COUNT = ").append(count).append(";\n\n");
+        src.append("    // Successors of state i are SUCCESSORS[OFFSETS[i] .. OFFSETS[i + 1]).\n");
+        appendConstant(src, "OFFSETS", offsets);
+        appendConstant(src, "SUCCESSORS", successors);
+        src.append("    // King-move distance between cells, indexed [from * 9 + to].\n");
+        appendConstant(src, "CELL_DISTANCE", distances);
+        src.append("    private StandardTables() {\n");
+        src.append("    }\n\n");
+        src.append("    static int[][] successors() {\n");
+        src.append("        int[][] table = new int[STATE_COUNT][];\n");
+        src.append("        for (int id = 0; id < STATE_COUNT; id++) {\n");
+        src.append("            int from = OFFSETS.charAt(id);\n");
+        src.append("            int[] succ = new int[OFFSETS.charAt(id + 1) - from];\n");
+        src.append("            for (int i = 0; i < succ.length; i++) {\n");
+        src.append("                succ[i] = SUCCESSORS.charAt(from + i);\n");
+        src.append("            }\n");
+        src.append("            table[id] = succ;\n");
+        src.append("        }\n");
+        src.append("        return table;\n");
+        src.append("    }\n\n");
+        src.append("    static int cellDistance(int from, int to) {\n");
+        src.append("        return CELL_DISTANCE.charAt(from * 9 + to);\n");
+        src.append("    }\n");
+        src.append("}\n");
+
+        Files.write(out, src.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + out + " (" + count + " states, " + successors.length() + " successors)");
+    }
+
+    /**
+     * Unicode escapes are translated before the source is tokenized, so line
+     * breaks, quotes and backslashes need ordinary escapes instead.
+     */
+    private static String escape(char c) {
+        switch (c) {
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            default:
+                return String.format("\\u%04x", (int) c);
+        }
+    }
+
+    private static void appendConstant(StringBuilder src, String name, CharSequence chars) {
+        src.append("    private static final String ").append(name).append(" =\n");
+        for (int i = 0; i < chars.length(); i += CHARS_PER_LINE) {
+            src.append(i == 0 ? "            \"" : "            + \"");
+            for (int j = i; j < Math.min(chars.length(), i + CHARS_PER_LINE); j++) {
+                src.append(escape(chars.charAt(j)));
+            }
+            src.append("\"\n");
+        }
+        if (chars.length() == 0) {
+            src.append("            \"\"\n");
+        }
+        src.setLength(src.length() - 1);
+        src.append(";\n\n");
+    }
+}
@@ -0,0 +1,108 @@
+package tools;
+
+import model.GameState;
+import search.BatchHeuristics;
+import search.Heuristics;
+import search.StateSpace;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares batch heuristic evaluation: per-GameState Hamming, the scalar batch
+ * loop and the Vector API batch loop, on CPU only.
+ *
+ * Usage:
+ *   java --add-modules jdk.incubator.vector -cp bin tools.HeuristicBenchmark [states] [rounds]
+ *
+ * Without --add-modules the vector implementation is unavailable and only the
+ * scalar figures are printed.
+ */
+public final class HeuristicBenchmark {
+
+    private HeuristicBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 16;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        List<GameState> placements = CorpusReport.allPlacements();
+        StateSpace space = StateSpace.standard();
+        Random rnd = new Random(42);
+        GameState[] states = new GameState[count];
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            states[i] = placements.get(rnd.nextInt(placements.size()));
+            ids[i] = space.encode(states[i]);
+        }
+        int[] r = new int[count];
+        int[] g = new int[count];
+        int[] b = new int[count];
+        BatchHeuristics.unpack(space, ids, count, r, g, b);
+        GameState goal = placements.get(rnd.nextInt(placements.size()));
+        int goalR = StateSpace.cellOf(goal.getRPos());
+        int goalG = StateSpace.cellOf(goal.getGPos());
+        int goalB = StateSpace.cellOf(goal.getBPos());
+
+        BatchHeuristics scalar = BatchHeuristics.scalar();
+        BatchHeuristics best = BatchHeuristics.best();
+        int[] expected = new int[count];
+        int[] out = new int[count];
+
+        scalar.hamming(r, g, b, count, goalR, goalG, goalB, expected);
+        best.hamming(r, g, b, count, goalR, goalG, goalB, out);
+        check("hamming", expected, out);
+        scalar.chebyshev(r, g, b, count, goalR, goalG, goalB, expected);
+        best.chebyshev(r, g, b, count, goalR, goalG, goalB, out);
+        check("chebyshev", expected, out);
+
+        System.out.println("states=" + count + " rounds=" + rounds + " best=" + best.getName());
+        double objects = time(rounds, () -> {
+            for (int i = 0; i < count; i++) {
+                out[i] = Heuristics.hamming(states[i], goal);
+            }
+        });
+        report("hamming per GameState", objects, count, objects);
+        double scalarHamming = time(rounds, () -> scalar.hamming(r, g, b, count, goalR, goalG, goalB, out));
+        report("hamming scalar batch", scalarHamming, count, objects);
+        double scalarCheb = time(rounds, () -> scalar.chebyshev(r, g, b, count, goalR, goalG, goalB, out));
+        report("chebyshev scalar batch", scalarCheb, count, scalarCheb);
+        if (best != scalar) {
+            double vecHamming = time(rounds, () -> best.hamming(r, g, b, count, goalR, goalG, goalB, out));
+            report("hamming " + best.getName(), vecHamming, count, scalarHamming);
+            double vecCheb = time(rounds, () -> best.chebyshev(r, g, b, count, goalR, goalG, goalB, out));
+            report("chebyshev " + best.getName(), vecCheb, count, scalarCheb);
+        }
+    }
+
+    private static void check(String name, int[] expected, int[] actual) {
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException(name + ": batch implementations disagree");
+        }
+    }
+
+    /**
+     * Median nanoseconds per round after a warm-up of the same length.
+     */
+    private static double time(int rounds, Runnable body) {
+        for (int i = 0; i < rounds; i++) {
+            body.run();
+        }
+        long[] samples = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            body.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[rounds / 2];
+    }
+
+    private static void report(String name, double nanosPerRound, int count, double baseline) {
+        System.out.println(String.format(Locale.ROOT, "%-28s %8.3f ns/state  %5.2fx", name,
+                nanosPerRound / count, baseline / nanosPerRound));
+    }
+}
@@ -0,0 +1,102 @@
+package tools;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures cold-start latency of the headless entry point by launching fresh
+ * JVMs, with and without an AppCDS archive.
+ *
+ * Usage: java -cp bin tools.StartupBenchmark [runs] [tricolor.jar] [tricolor.jsa]
+ *
+ * CDS only archives classes loaded from jar files, so the launched JVMs run
+ * from the packaged jar. If the archive does not exist it is created first
+ * with a training run ({@code -XX:ArchiveClassesAtExit}). For each configuration the harness
+ * reports the median process wall time and the median times from JVM start
+ * and from entering main to the first solution, as printed by
+ * {@code Main solve --timing}.
+ */
+public final class StartupBenchmark {
+
+    private static final String INITIAL = "R.G..B...";
+    private static final String GOAL = "..B.R.G..";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        File jar = new File(args.length > 1 ? args[1] : "tricolor.jar");
+        File archive = new File(args.length > 2 ? args[2] : "tricolor.jsa");
+        if (!jar.isFile()) {
+            throw new IllegalArgumentException("Missing " + jar + "; build it with: jar --create --file "
+                    + jar + " -C bin .");
+        }
+
+        if (!archive.exists()) {
+            System.out.println("Creating CDS archive " + archive);
+            launch(jar, "-XX:ArchiveClassesAtExit=" + archive.getPath());
+        }
+        measure(jar, "no archive", runs);
+        measure(jar, "AppCDS", runs, "-XX:SharedArchiveFile=" + archive.getPath());
+    }
+
+    private static void measure(File jar, String label, int runs, String... jvmOptions)
+            throws IOException, InterruptedException {
+        long[] wall = new long[runs];
+        long[] toSolution = new long[runs];
+        long[] mainToSolution = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            List<String> output = launch(jar, jvmOptions);
+            wall[i] = (System.nanoTime() - start) / 1_000_000;
+            toSolution[i] = -1;
+            mainToSolution[i] = -1;
+            for (String line : output) {
+                if (line.startsWith("jvm-start-to-solution-ms ")) {
+                    toSolution[i] = Long.parseLong(line.substring(line.indexOf(' ') + 1).trim());
+                } else if (line.startsWith("main-to-solution-ms ")) {
+                    mainToSolution[i] = Long.parseLong(line.substring(line.indexOf(' ') + 1).trim());
+                }
+            }
+        }
+        Arrays.sort(wall);
+        Arrays.sort(toSolution);
+        Arrays.sort(mainToSolution);
+        System.out.println(String.format(Locale.ROOT,
+                "%-12s runs=%d  wall p50=%d ms  jvm-start-to-solution p50=%d ms  main-to-solution p50=%d ms",
+                label, runs, wall[runs / 2], toSolution[runs / 2], mainToSolution[runs / 2]));
+    }
+
+    private static List<String> launch(File jar, String... jvmOptions) throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        cmd.addAll(Arrays.asList(jvmOptions));
+        cmd.add("-cp");
+        cmd.add(jar.getPath());
+        cmd.add("Main");
+        cmd.add("solve");
+        cmd.add(INITIAL);
+        cmd.add(GOAL);
+        cmd.add("--timing");
+        Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (p.waitFor() != 0) {
+            throw new IllegalStateException("Headless solve failed: " + lines);
+        }
+        return lines;
+    }
+}
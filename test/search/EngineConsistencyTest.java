@@ -0,0 +1,234 @@
+package search;
+
+import model.GameState;
+import model.GoalPattern;
+import model.MoveRules;
+import model.Position;
+import model.TileColor;
+import tools.CorpusReport;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Checks every registered engine against plain A* over a sample of instances
+ * and rule variants: the same status and cost, and a path that is a legal
+ * move sequence from the start to the goal. On top of that it exercises the
+ * parts the sample alone would not reach:
+ * <ul>
+ *   <li>the incremental planner's resumed searches, on query sequences that
+ *       change only the goal or only the start;</li>
+ *   <li>the external BFS with a sort buffer small enough that wide layers
+ *       spill and merge more than one run;</li>
+ *   <li>bounded A*'s infeasibility proofs, each confirmed by an exhaustive
+ *       search;</li>
+ *   <li>goal patterns, with every heuristic and in bounded mode, against
+ *       breadth-first search.</li>
+ * </ul>
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class EngineConsistencyTest {
+
+    private static final String[] RULES = {"eight:RGB", "four:RGB", "four:RB:wrap", "knight:RRGB", "sliding:BGR"};
+    private static final int INSTANCES = 40;
+
+    public static void main(String[] args) {
+        for (String spec : RULES) {
+            MoveRules rules = MoveRules.parse(spec);
+            List<GameState> placements = CorpusReport.allPlacements(rules);
+            checkEngines(spec, rules, placements);
+            checkIncremental(spec, rules, placements);
+            checkExternalSpill(spec, rules, placements);
+            checkInfeasibility(spec, rules, placements);
+            checkPatterns(spec, rules, placements);
+        }
+        System.out.println("EngineConsistencyTest passed");
+    }
+
+    private static void checkEngines(String spec, MoveRules rules, List<GameState> placements) {
+        Random rnd = new Random(1);
+        for (String name : Engines.names()) {
+            SearchEngine engine = Engines.byName(name, rules);
+            for (int i = 0; i < INSTANCES; i++) {
+                GameState initial = placements.get(rnd.nextInt(placements.size()));
+                GameState goal = placements.get(rnd.nextInt(placements.size()));
+                int maxDepth = 1 + rnd.nextInt(12);
+                compare(spec + " " + name + " instance " + i, rules, initial, goal, maxDepth,
+                        engine.solveUnrecorded(initial, goal, maxDepth, SearchBudget.unlimited()));
+            }
+        }
+    }
+
+    private static void checkIncremental(String spec, MoveRules rules, List<GameState> placements) {
+        Random rnd = new Random(2);
+        IncrementalPlanner planner = new IncrementalPlanner(rules);
+        GameState initial = placements.get(rnd.nextInt(placements.size()));
+        GameState goal = placements.get(rnd.nextInt(placements.size()));
+        long reused = 0;
+        for (int i = 0; i < 3 * INSTANCES; i++) {
+            // Mostly one board at a time, as in the editor, sometimes both.
+            int change = rnd.nextInt(5);
+            if (change < 2) {
+                goal = placements.get(rnd.nextInt(placements.size()));
+            } else if (change < 4) {
+                initial = placements.get(rnd.nextInt(placements.size()));
+            } else {
+                initial = placements.get(rnd.nextInt(placements.size()));
+                goal = placements.get(rnd.nextInt(placements.size()));
+            }
+            compare(spec + " incremental query " + i, rules, initial, goal, 10,
+                    planner.solveUnrecorded(initial, goal, 10, SearchBudget.unlimited()));
+            reused += planner.getLastReusedExpansions();
+        }
+        check(reused > 0, spec + ": the incremental planner never reused an expansion");
+    }
+
+    private static void checkExternalSpill(String spec, MoveRules rules, List<GameState> placements) {
+        Random rnd = new Random(3);
+        // The smallest buffer holds 1024 ids, so wide layers spill more than one run.
+        ExternalBfsSolver external = new ExternalBfsSolver(rules, 1, null);
+        for (int i = 0; i < INSTANCES / 2; i++) {
+            GameState initial = placements.get(rnd.nextInt(placements.size()));
+            GameState goal = placements.get(rnd.nextInt(placements.size()));
+            compare(spec + " external-bfs spilling instance " + i, rules, initial, goal, 14,
+                    external.solveUnrecorded(initial, goal, 14, SearchBudget.unlimited()));
+        }
+    }
+
+    private static void checkInfeasibility(String spec, MoveRules rules, List<GameState> placements) {
+        Random rnd = new Random(4);
+        SearchEngine bounded = Engines.boundedAStar(rules);
+        int rejected = 0;
+        for (int i = 0; i < 10 * INSTANCES; i++) {
+            GameState initial = placements.get(rnd.nextInt(placements.size()));
+            GameState goal = placements.get(rnd.nextInt(placements.size()));
+            int maxDepth = rnd.nextInt(8);
+            SearchResult result = bounded.solveUnrecorded(initial, goal, maxDepth, SearchBudget.unlimited());
+            if (result.getInfeasibility() == null) {
+                continue;
+            }
+            rejected++;
+            String label = spec + " bounded instance " + i + " (" + result.getInfeasibility() + ")";
+            check(result.getStatus() == SearchResult.Status.NO_SOLUTION, label + ": status " + result.getStatus());
+            check(shortest(rules, initial, GoalPattern.exact(goal), maxDepth) < 0,
+                    label + ": rejected, but a solution exists within " + maxDepth + " moves");
+        }
+        check(rejected > 0, spec + ": bounded A* rejected no instance, the proofs went untested");
+    }
+
+    private static void checkPatterns(String spec, MoveRules rules, List<GameState> placements) {
+        Random rnd = new Random(5);
+        for (int i = 0; i < INSTANCES; i++) {
+            GameState initial = placements.get(rnd.nextInt(placements.size()));
+            GoalPattern goal = randomPattern(rnd, placements);
+            int maxDepth = 1 + rnd.nextInt(10);
+            int expected = shortest(rules, initial, goal, maxDepth);
+            for (Heuristics.Kind kind : Heuristics.Kind.values()) {
+                for (boolean boundedMode : new boolean[]{false, true}) {
+                    AStarSolver solver = new AStarSolver(initial, goal, maxDepth, rules);
+                    solver.setHeuristic(kind);
+                    solver.setBounded(boundedMode);
+                    SearchResult result = solver.solveUnrecorded(null, SearchBudget.unlimited());
+                    String label = spec + " pattern " + goal + " from " + initial.toBoardString() + " with " + kind
+                            + (boundedMode ? " bounded" : "");
+                    check(result.getCost() == expected, label + ": cost " + result.getCost() + ", BFS " + expected);
+                    if (result.isSolved()) {
+                        List<GameState> path = result.getPath();
+                        check(isLegal(rules, initial, path) && path.get(path.size() - 1).isGoal(goal),
+                                label + ": invalid path " + path);
+                    }
+                }
+            }
+        }
+    }
+
+    private static GoalPattern randomPattern(Random rnd, List<GameState> placements) {
+        GoalPattern goal = GoalPattern.any();
+        for (TileColor tile : TileColor.values()) {
+            switch (rnd.nextInt(5)) {
+                case 0:
+                    goal = goal.withMask(tile, GoalPattern.rowMask(rnd.nextInt(3)));
+                    break;
+                case 1:
+                    goal = goal.withMask(tile, GoalPattern.columnMask(rnd.nextInt(3)));
+                    break;
+                case 2:
+                    goal = goal.withMask(tile, GoalPattern.CORNERS);
+                    break;
+                case 3:
+                    goal = goal.withCells(tile, new Position(rnd.nextInt(3), rnd.nextInt(3)));
+                    break;
+                default:
+                    break;
+            }
+        }
+        // Masks can leave no placement with three distinct cells; fall back to an exact goal then.
+        for (GameState s : placements) {
+            if (s.isGoal(goal)) {
+                return goal;
+            }
+        }
+        return GoalPattern.exact(placements.get(rnd.nextInt(placements.size())));
+    }
+
+    private static void compare(String label, MoveRules rules, GameState initial, GameState goal, int maxDepth,
+                                SearchResult result) {
+        SearchResult expected = new AStarSolver(initial, goal, maxDepth, rules)
+                .solveUnrecorded(null, SearchBudget.unlimited());
+        check(result.getStatus() == expected.getStatus(), label + ": status " + result.getStatus() + ", A* "
+                + expected.getStatus());
+        check(result.getCost() == expected.getCost(), label + ": cost " + result.getCost() + ", A* "
+                + expected.getCost());
+        if (result.isSolved()) {
+            List<GameState> path = result.getPath();
+            check(isLegal(rules, initial, path) && path.get(path.size() - 1).isGoal(goal),
+                    label + ": invalid path " + path);
+        }
+    }
+
+    private static boolean isLegal(MoveRules rules, GameState initial, List<GameState> path) {
+        if (path.isEmpty() || !path.get(0).equals(initial)) {
+            return false;
+        }
+        for (int i = 1; i < path.size(); i++) {
+            if (!path.get(i - 1).generateSuccessors(rules).contains(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Breadth-first cost of the cheapest path, or -1 beyond the move limit.
+     */
+    private static int shortest(MoveRules rules, GameState initial, GoalPattern goal, int maxDepth) {
+        Set<GameState> layer = new LinkedHashSet<>();
+        layer.add(initial);
+        Set<GameState> seen = new HashSet<>(layer);
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            Set<GameState> next = new LinkedHashSet<>();
+            for (GameState s : layer) {
+                if (s.isGoal(goal)) {
+                    return depth;
+                }
+                for (GameState succ : s.generateSuccessors(rules)) {
+                    if (seen.add(succ)) {
+                        next.add(succ);
+                    }
+                }
+            }
+            layer = next;
+        }
+        return -1;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+import tools.CorpusReport;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the macro solver against plain A* and its handling of the expansion
+ * budget: a budget at or just above the solve's own expansion count still
+ * solves, and a smaller one either stops with BUDGET_EXHAUSTED or, when it
+ * runs out after a finish was found, returns that finish at the optimal cost.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class MacroSolverTest {
+
+    private static final String[] RULES = {"eight:RGB", "four:RB:wrap", "knight:RRGB", "sliding:BGR"};
+    private static final int INSTANCES = 150;
+
+    public static void main(String[] args) {
+        for (String spec : RULES) {
+            MoveRules rules = MoveRules.parse(spec);
+            List<GameState> placements = CorpusReport.allPlacements(rules);
+            Random rnd = new Random(42);
+            MacroSolver macro = new MacroSolver(rules);
+            for (int i = 0; i < INSTANCES; i++) {
+                GameState initial = placements.get(rnd.nextInt(placements.size()));
+                GameState goal = placements.get(rnd.nextInt(placements.size()));
+                int maxDepth = 1 + rnd.nextInt(12);
+                SearchResult expected = new AStarSolver(initial, goal, maxDepth, rules).solveUnrecorded(null,
+                        SearchBudget.unlimited());
+                SearchResult full = macro.solveUnrecorded(initial, goal, maxDepth, SearchBudget.unlimited());
+                check(full.getCost() == expected.getCost(), spec + " instance " + i + ": macro cost "
+                        + full.getCost() + ", A* cost " + expected.getCost());
+                long expanded = full.getStats().getExpandedNodes();
+                if (!full.isSolved() || expanded == 0) {
+                    continue;
+                }
+
+                for (long limit = expanded; limit <= expanded + 1; limit++) {
+                    SearchResult capped = solve(macro, initial, goal, maxDepth, limit);
+                    check(capped.getCost() == expected.getCost(), spec + " instance " + i + ": limit " + limit
+                            + " of " + expanded + " expansions gave " + capped.getStatus());
+                }
+                SearchResult nodeCapped = macro.solveUnrecorded(initial, goal, maxDepth,
+                        SearchBudget.unlimited().withMaxNodes(full.getStats().getGeneratedNodes() + 1));
+                check(nodeCapped.getCost() == expected.getCost(), spec + " instance " + i
+                        + ": node limit just above the solve's node count gave " + nodeCapped.getStatus());
+                // Below the full count the search either stops or, once a finish is known, proves it.
+                for (long limit = 1; limit < expanded; limit++) {
+                    SearchResult capped = solve(macro, initial, goal, maxDepth, limit);
+                    if (capped.isSolved()) {
+                        check(capped.getCost() == expected.getCost(), spec + " instance " + i + ": limit " + limit
+                                + " solved at cost " + capped.getCost() + " instead of " + expected.getCost());
+                    } else {
+                        check(capped.getStatus() == SearchResult.Status.BUDGET_EXHAUSTED, spec + " instance " + i
+                                + ": limit " + limit + " gave " + capped.getStatus());
+                    }
+                }
+            }
+        }
+        System.out.println("MacroSolverTest passed");
+    }
+
+    private static SearchResult solve(MacroSolver macro, GameState initial, GameState goal, int maxDepth,
+                                      long maxExpansions) {
+        return macro.solveUnrecorded(initial, goal, maxDepth, SearchBudget.unlimited().withMaxExpansions(maxExpansions));
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package search;
+
+import model.GameState;
+import model.Position;
+import model.TileColor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Checks that a portfolio with fewer threads than members reranks its
+ * line-up: the member that keeps winning is run first, and when it stops
+ * winning a benched member works its way in through the exploration slot.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class PortfolioSolverTest {
+
+    private static final GameState STATE = new GameState(new Position(0, 0), new Position(0, 1), new Position(0, 2), TileColor.R);
+
+    public static void main(String[] args) {
+        FakeEngine first = new FakeEngine("first");
+        FakeEngine second = new FakeEngine("second");
+        FakeEngine third = new FakeEngine("third");
+        try (PortfolioSolver portfolio = new PortfolioSolver(Arrays.<SearchEngine>asList(first, second, third), 2)) {
+            // Only second answers. Every member gets a first run, then second leads every line-up.
+            second.working = true;
+            for (int race = 0; race < 8; race++) {
+                portfolio.solveUnrecorded(STATE, STATE, 10, SearchBudget.unlimited());
+                check("second".equals(portfolio.getLastWinner()), "second should win race " + race);
+            }
+
+            // Every exploration race gives the last slot to a benched member: first and
+            // third have never won, so first holds the second slot and third is explored.
+            long thirdEntries = portfolio.getEntryCounts().get("third");
+            for (int race = 0; race < 4 * PortfolioSolver.EXPLORE_EVERY; race++) {
+                portfolio.solveUnrecorded(STATE, STATE, 10, SearchBudget.unlimited());
+            }
+            long explored = portfolio.getEntryCounts().get("third") - thirdEntries;
+            check(explored == 4, "third should enter each of 4 exploration races, entered " + explored);
+
+            // Now only third answers. It is benched behind second and first and gets in
+            // through the exploration slot, where its wins lift it to the top of the ranking.
+            second.working = false;
+            third.working = true;
+            for (int race = 0; race < 48; race++) {
+                portfolio.solveUnrecorded(STATE, STATE, 10, SearchBudget.unlimited());
+            }
+            Map<String, Long> wins = portfolio.getWinCounts();
+            check(wins.get("third") > 0, "third should have entered through exploration: " + wins);
+            check(wins.get("third") < 48, "third should have been benched at first: " + wins);
+            for (int race = 0; race < 8; race++) {
+                portfolio.solveUnrecorded(STATE, STATE, 10, SearchBudget.unlimited());
+                check("third".equals(portfolio.getLastWinner()), "third should lead the line-up by now: "
+                        + portfolio.getWinCounts());
+            }
+        }
+        System.out.println("PortfolioSolverTest passed");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * Answers at once when working, otherwise gives up at once, so exactly the
+     * working members can win and the outcome does not depend on timing.
+     */
+    private static final class FakeEngine implements SearchEngine {
+        private final String name;
+        volatile boolean working;
+
+        FakeEngine(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public SearchResult solveUnrecorded(GameState initial, GameState goal, int maxDepth, SearchBudget budget) {
+            SearchStats stats = new SearchStats(1, 1, 1, 1000);
+            if (!working) {
+                return SearchResult.budgetExhausted(SearchBudget.Limit.EXPANSIONS, stats);
+            }
+            return new SearchResult(true, Collections.singletonList(initial), "Goal found in 0 move(s).", stats);
+        }
+    }
+}
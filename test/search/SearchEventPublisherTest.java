@@ -0,0 +1,217 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Checks {@link SearchEventPublisher}'s overflow policies and the
+ * subscription protocol: what DROP and SAMPLE keep, that BLOCK waits for
+ * demand and is released by a cancel, that a non-positive request is an
+ * error and that completion waits for the buffer to drain.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class SearchEventPublisherTest {
+
+    private static final Node NODE = new Node(GameState.fromBoardString("RGB......", MoveRules.standard()), null, 0, 0);
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    public static void main(String[] args) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+            Thread t = new Thread(task, "TestDelivery");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            checkDrop(executor);
+            checkSample(executor);
+            checkBlock(executor);
+            checkBadRequest(executor);
+            checkCancelReleasesBlockedSearch(executor);
+            checkCompleteAfterDrain(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println("SearchEventPublisherTest passed");
+    }
+
+    private static void checkDrop(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 4);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.DROP, 2);
+        publish(publisher, 40);
+        check(publisher.getDroppedEvents() == 32, "DROP should keep 2 batches of 4 and drop 32 events, dropped "
+                + publisher.getDroppedEvents());
+        recorder.subscription.request(Long.MAX_VALUE);
+        publisher.close();
+        await(() -> recorder.completed, "DROP subscriber never completed");
+        check(recorder.sequences().equals(range(0, 8, 1)), "DROP should deliver the first 8 events, got "
+                + recorder.sequences());
+    }
+
+    private static void checkSample(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 4);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.SAMPLE, 2);
+        publish(publisher, 64);
+        recorder.subscription.request(Long.MAX_VALUE);
+        publisher.close();
+        await(() -> recorder.completed, "SAMPLE subscriber never completed");
+        List<Long> seen = recorder.sequences();
+        check(seen.size() + publisher.getDroppedEvents() == 64, "SAMPLE received " + seen.size() + " and dropped "
+                + publisher.getDroppedEvents() + " of 64 events");
+        check(seen.size() > 1 && seen.size() < 64, "SAMPLE should thin but keep some events, got " + seen);
+        // Evenly thinned: in order, from the start, with one constant gap.
+        long gap = seen.get(1) - seen.get(0);
+        check(seen.equals(range(0, 64, gap)), "SAMPLE should keep every " + gap + "th event in order, got " + seen);
+    }
+
+    private static void checkBlock(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 1);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.BLOCK, 1);
+        Thread search = startSearch(publisher, 5);
+        // One batch fills the buffer, the second waits for demand.
+        await(() -> search.getState() == Thread.State.WAITING, "BLOCK search never waited for demand");
+        check(recorder.sequences().isEmpty(), "BLOCK delivered without demand");
+        for (int i = 1; i <= 5; i++) {
+            recorder.subscription.request(1);
+            int delivered = i;
+            await(() -> recorder.sequences().size() == delivered, "BLOCK did not resume after request " + i);
+        }
+        search.join(TIMEOUT_MILLIS);
+        check(!search.isAlive(), "BLOCK search did not finish");
+        check(recorder.sequences().equals(range(0, 5, 1)), "BLOCK should deliver every event, got "
+                + recorder.sequences());
+        check(publisher.getDroppedEvents() == 0, "BLOCK dropped events");
+    }
+
+    private static void checkBadRequest(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 1);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.DROP, 1);
+        recorder.subscription.request(0);
+        await(() -> recorder.error != null, "request(0) did not signal onError");
+        check(recorder.error instanceof IllegalArgumentException, "request(0) signalled " + recorder.error);
+        publish(publisher, 3);
+        publisher.close();
+        Thread.sleep(50);
+        check(recorder.sequences().isEmpty() && !recorder.completed, "events or completion after onError");
+    }
+
+    private static void checkCancelReleasesBlockedSearch(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 1);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.BLOCK, 1);
+        Thread search = startSearch(publisher, 10);
+        await(() -> search.getState() == Thread.State.WAITING, "BLOCK search never waited for demand");
+        recorder.subscription.cancel();
+        search.join(TIMEOUT_MILLIS);
+        check(!search.isAlive(), "cancel did not release the blocked search thread");
+    }
+
+    private static void checkCompleteAfterDrain(ExecutorService executor) throws Exception {
+        SearchEventPublisher publisher = new SearchEventPublisher(executor, 2);
+        Recorder recorder = subscribe(publisher, SearchEventPublisher.Overflow.DROP, 8);
+        publish(publisher, 5);
+        publisher.close();
+        Thread.sleep(50);
+        check(!recorder.completed, "completed while 3 batches were still buffered");
+        recorder.subscription.request(2);
+        await(() -> recorder.sequences().size() == 4, "first two batches not delivered");
+        Thread.sleep(50);
+        check(!recorder.completed, "completed while a batch was still buffered");
+        recorder.subscription.request(1);
+        await(() -> recorder.completed, "never completed after the buffer drained");
+        check(recorder.sequences().equals(range(0, 5, 1)), "completion should follow every event, got "
+                + recorder.sequences());
+        check(recorder.eventsAtCompletion == 5, "onComplete came before the last onNext");
+    }
+
+    private static Recorder subscribe(SearchEventPublisher publisher, SearchEventPublisher.Overflow overflow,
+                                      int bufferBatches) throws Exception {
+        Recorder recorder = new Recorder();
+        publisher.subscribe(recorder, overflow, bufferBatches);
+        await(() -> recorder.subscription != null, "onSubscribe never called");
+        return recorder;
+    }
+
+    private static void publish(SearchEventPublisher publisher, int events) {
+        for (int i = 0; i < events; i++) {
+            publisher.onNodeExpanded(NODE, Collections.<Node>emptyList());
+        }
+    }
+
+    private static Thread startSearch(SearchEventPublisher publisher, int events) {
+        Thread search = new Thread(() -> publish(publisher, events), "TestSearch");
+        search.setDaemon(true);
+        search.start();
+        return search;
+    }
+
+    private static List<Long> range(long from, long to, long step) {
+        List<Long> values = new ArrayList<>();
+        for (long v = from; v < to; v += step) {
+            values.add(v);
+        }
+        return values;
+    }
+
+    private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(message);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * Records what it is sent; requests nothing on its own.
+     */
+    private static final class Recorder implements Flow.Subscriber<List<ExpansionEvent>> {
+        private final List<Long> sequences = new ArrayList<>();
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+        volatile int eventsAtCompletion = -1;
+
+        synchronized List<Long> sequences() {
+            return new ArrayList<>(sequences);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public synchronized void onNext(List<ExpansionEvent> batch) {
+            for (ExpansionEvent e : batch) {
+                sequences.add(e.getSequence());
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            eventsAtCompletion = sequences.size();
+            completed = true;
+        }
+    }
+}
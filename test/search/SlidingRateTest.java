@@ -0,0 +1,83 @@
+package search;
+
+/**
+ * Checks {@link SlidingRate} on explicit timestamps: a steady rate, a burst
+ * that ages out of the window, the partial window after start-up and reset,
+ * and that the solver metrics report a windowed rate rather than a lifetime
+ * average.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class SlidingRateTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    // A whole second, negative like some System.nanoTime() values.
+    private static final long T0 = -7 * SECOND;
+
+    public static void main(String[] args) {
+        checkSteady();
+        checkBurstAgesOut();
+        checkStartAndReset();
+        checkSolverMetrics();
+        System.out.println("SlidingRateTest passed");
+    }
+
+    private static void checkSteady() {
+        SlidingRate rate = new SlidingRate(10, T0);
+        // Ten events a second; once the window is full the rate stays at 10 as it slides.
+        for (int k = 0; k < 300; k++) {
+            if (k % 10 == 0 && k >= 100) {
+                close(rate.perSecond(T0 + k * SECOND / 10 - 1), 10, "steady rate at " + k / 10 + " s");
+            }
+            rate.record(T0 + k * SECOND / 10);
+        }
+    }
+
+    private static void checkBurstAgesOut() {
+        SlidingRate rate = new SlidingRate(10, T0);
+        for (int k = 0; k < 1000; k++) {
+            rate.record(T0 + SECOND / 2);
+        }
+        check(rate.perSecond(T0 + 5 * SECOND) > 100, "burst not seen inside the window");
+        // A lifetime average would still report 1000 / 30 here.
+        check(rate.perSecond(T0 + 30 * SECOND) == 0, "burst still counted 30 s later: "
+                + rate.perSecond(T0 + 30 * SECOND));
+        rate.record(T0 + 30 * SECOND);
+        close(rate.perSecond(T0 + 35 * SECOND), 1 / 9.0, "one event after the burst aged out");
+    }
+
+    private static void checkStartAndReset() {
+        SlidingRate rate = new SlidingRate(10, T0);
+        check(rate.perSecond(T0) == 0, "rate before any time passed");
+        for (int k = 0; k < 5; k++) {
+            rate.record(T0 + k * SECOND / 10);
+        }
+        close(rate.perSecond(T0 + SECOND / 2), 10, "rate half a second after start-up");
+        rate.reset(T0 + 3 * SECOND);
+        check(rate.perSecond(T0 + 4 * SECOND) == 0, "events survived the reset");
+        rate.record(T0 + 3 * SECOND + SECOND / 2);
+        close(rate.perSecond(T0 + 4 * SECOND), 1, "one event in the second after the reset");
+    }
+
+    private static void checkSolverMetrics() {
+        SolverMetrics metrics = new SolverMetrics();
+        SearchResult result = SearchResult.budgetExhausted(SearchBudget.Limit.EXPANSIONS, SearchStats.EMPTY);
+        for (int i = 0; i < 50; i++) {
+            metrics.record(result);
+        }
+        check(metrics.getSolveCount() == 50 && metrics.getSolvesPerSecond() > 0, "recorded solves not in the rate");
+        metrics.reset();
+        check(metrics.getSolvesPerSecond() == 0, "rate survived a reset: " + metrics.getSolvesPerSecond());
+    }
+
+    private static void close(double actual, double expected, String label) {
+        check(Math.abs(actual - expected) <= 1e-9 + expected * 1e-6, label + ": " + actual + ", expected "
+                + expected);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package search;
+
+import model.GameState;
+import model.GoalPattern;
+import model.MoveRules;
+import model.TileColor;
+import tools.CorpusReport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Checks {@link SolutionDag} against brute-force enumeration of every move
+ * sequence of the optimal length: the path count, the lazily enumerated
+ * paths and the path that moves one tile the fewest times. Goals include
+ * patterns that several states match.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class SolutionDagTest {
+
+    private static final String[] RULES = {"eight:RGB", "four:RGB", "sliding:BGR"};
+    // Brute force walks every sequence of this length, so it stays small.
+    private static final int MAX_DEPTH = 6;
+    private static final int INSTANCES = 60;
+
+    public static void main(String[] args) {
+        int multiGoal = 0;
+        long largestCount = 0;
+        for (String spec : RULES) {
+            MoveRules rules = MoveRules.parse(spec);
+            List<GameState> placements = CorpusReport.allPlacements(rules);
+            Random rnd = new Random(11);
+            for (int i = 0; i < INSTANCES; i++) {
+                GameState initial = placements.get(rnd.nextInt(placements.size()));
+                GoalPattern goal = randomGoal(rnd, placements);
+                String label = spec + " " + initial.toBoardString() + " -> " + goal;
+
+                SearchResult result = new AStarSolver(initial, goal, MAX_DEPTH, rules)
+                        .solveAllOptimal(null, SearchBudget.unlimited());
+                List<List<GameState>> expected = new ArrayList<>();
+                int cost = shortest(rules, initial, goal);
+                if (cost < 0) {
+                    check(!result.isSolved(), label + ": solved although brute force finds no path");
+                    continue;
+                }
+                check(result.getCost() == cost, label + ": cost " + result.getCost() + ", brute force " + cost);
+                List<GameState> prefix = new ArrayList<>();
+                prefix.add(initial);
+                enumerate(rules, goal, prefix, cost, expected);
+                if (countGoalStates(expected) > 1) {
+                    multiGoal++;
+                }
+
+                SolutionDag dag = result.getSolutionDag();
+                check(dag.getCost() == cost, label + ": DAG cost " + dag.getCost());
+                check(dag.countPaths() == expected.size(), label + ": DAG counts " + dag.countPaths()
+                        + " paths, brute force " + expected.size());
+                largestCount = Math.max(largestCount, dag.countPaths());
+
+                Set<List<GameState>> seen = new HashSet<>();
+                for (List<GameState> path : dag.paths()) {
+                    check(isOptimalPath(rules, initial, goal, cost, path), label + ": invalid path " + path);
+                    check(seen.add(path), label + ": path listed twice " + path);
+                }
+                check(seen.size() == expected.size() && seen.containsAll(expected),
+                        label + ": paths() differs from brute force");
+
+                for (TileColor tile : TileColor.values()) {
+                    List<GameState> chosen = dag.pathMinimizingMoves(tile);
+                    check(isOptimalPath(rules, initial, goal, cost, chosen), label + ": invalid path for " + tile);
+                    int fewest = Integer.MAX_VALUE;
+                    for (List<GameState> path : expected) {
+                        fewest = Math.min(fewest, moves(path, tile));
+                    }
+                    check(moves(chosen, tile) == fewest, label + ": " + tile + " moves " + moves(chosen, tile)
+                            + " times, fewest possible " + fewest);
+                }
+            }
+        }
+        check(multiGoal > 0, "no instance had optimal paths ending in different goal states");
+        checkLazy();
+        System.out.println("SolutionDagTest passed (" + multiGoal + " instances with several goal states, up to "
+                + largestCount + " optimal paths)");
+    }
+
+    /**
+     * An instance with over a thousand optimal paths, beyond what brute force
+     * can list at this depth: the iterator walks them one at a time, each is
+     * a valid optimal path and there are exactly countPaths() distinct ones.
+     */
+    private static void checkLazy() {
+        MoveRules rules = MoveRules.parse("four:RGB");
+        GameState initial = GameState.fromBoardString("..RGB....", rules);
+        GoalPattern goal = GoalPattern.exact(GameState.fromBoardString(".RGB.....", rules));
+        SolutionDag dag = new AStarSolver(initial, goal, 20, rules)
+                .solveAllOptimal(null, SearchBudget.unlimited()).getSolutionDag();
+        check(dag.countPaths() > 1000, "expected a large DAG, got " + dag.countPaths() + " paths");
+        Set<List<GameState>> seen = new HashSet<>();
+        Iterator<List<GameState>> it = dag.paths().iterator();
+        while (it.hasNext()) {
+            List<GameState> path = it.next();
+            check(isOptimalPath(rules, initial, goal, dag.getCost(), path), "invalid path " + path);
+            check(seen.add(path), "path listed twice " + path);
+        }
+        check(seen.size() == dag.countPaths(), "iterator gave " + seen.size() + " paths, count is "
+                + dag.countPaths());
+    }
+
+    private static GoalPattern randomGoal(Random rnd, List<GameState> placements) {
+        switch (rnd.nextInt(4)) {
+            case 0:
+                return GoalPattern.exact(placements.get(rnd.nextInt(placements.size())));
+            case 1:
+                return GoalPattern.any().withMask(TileColor.R, GoalPattern.rowMask(rnd.nextInt(3)));
+            case 2:
+                return GoalPattern.any().withMask(TileColor.B, GoalPattern.CORNERS)
+                        .withMask(TileColor.G, GoalPattern.columnMask(rnd.nextInt(3)));
+            default:
+                return GoalPattern.any().withMask(TileColor.values()[rnd.nextInt(3)], 1 << rnd.nextInt(9));
+        }
+    }
+
+    /**
+     * Breadth-first cost of the cheapest path, or -1 beyond the move limit.
+     */
+    private static int shortest(MoveRules rules, GameState initial, GoalPattern goal) {
+        Set<GameState> layer = new LinkedHashSet<>();
+        layer.add(initial);
+        Set<GameState> seen = new HashSet<>(layer);
+        for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+            Set<GameState> nextLayer = new LinkedHashSet<>();
+            for (GameState s : layer) {
+                if (s.isGoal(goal)) {
+                    return depth;
+                }
+                for (GameState succ : s.generateSuccessors(rules)) {
+                    if (seen.add(succ)) {
+                        nextLayer.add(succ);
+                    }
+                }
+            }
+            layer = nextLayer;
+        }
+        return -1;
+    }
+
+    /**
+     * Every sequence of distinct successor states of exactly the remaining length that ends on a goal.
+     */
+    private static void enumerate(MoveRules rules, GoalPattern goal, List<GameState> prefix, int remaining,
+                                  List<List<GameState>> out) {
+        GameState last = prefix.get(prefix.size() - 1);
+        if (remaining == 0) {
+            if (last.isGoal(goal)) {
+                out.add(new ArrayList<>(prefix));
+            }
+            return;
+        }
+        for (GameState succ : new LinkedHashSet<>(last.generateSuccessors(rules))) {
+            prefix.add(succ);
+            enumerate(rules, goal, prefix, remaining - 1, out);
+            prefix.remove(prefix.size() - 1);
+        }
+    }
+
+    private static boolean isOptimalPath(MoveRules rules, GameState initial, GoalPattern goal, int cost,
+                                         List<GameState> path) {
+        if (path.size() != cost + 1 || !path.get(0).equals(initial) || !path.get(cost).isGoal(goal)) {
+            return false;
+        }
+        for (int i = 1; i < path.size(); i++) {
+            if (!path.get(i - 1).generateSuccessors(rules).contains(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countGoalStates(List<List<GameState>> paths) {
+        Set<GameState> ends = new HashSet<>();
+        for (List<GameState> path : paths) {
+            ends.add(path.get(path.size() - 1));
+        }
+        return ends.size();
+    }
+
+    private static int moves(List<GameState> path, TileColor tile) {
+        int moves = 0;
+        for (int i = 1; i < path.size(); i++) {
+            if (!position(path.get(i - 1), tile).equals(position(path.get(i), tile))) {
+                moves++;
+            }
+        }
+        return moves;
+    }
+
+    private static Object position(GameState s, TileColor tile) {
+        return tile == TileColor.R ? s.getRPos() : tile == TileColor.G ? s.getGPos() : s.getBPos();
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
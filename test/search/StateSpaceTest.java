@@ -0,0 +1,69 @@
+package search;
+
+import model.MoveRules;
+
+import java.util.Arrays;
+
+/**
+ * Checks that the tables generated into {@link StandardTables} still match
+ * what the move generator computes, id by id, and that
+ * {@link StateSpace#of} gives the same successors and predecessors as
+ * {@link StateSpace#compute} for the standard rules (which use the generated
+ * tables) and for other rules (which do not).
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class StateSpaceTest {
+
+    private static final String[] RULES = {"eight:RGB", "four:RGB", "four:RB:wrap", "knight:RRGB", "sliding:BGR"};
+
+    public static void main(String[] args) {
+        checkGeneratedTables();
+        checkSpace(MoveRules.standard());
+        for (String spec : RULES) {
+            checkSpace(MoveRules.parse(spec));
+        }
+        System.out.println("StateSpaceTest passed");
+    }
+
+    private static void checkGeneratedTables() {
+        MoveRules standard = MoveRules.standard();
+        check(StandardTables.RULES.equals(standard.toString()), "StandardTables were generated for "
+                + StandardTables.RULES + ", the standard rules are " + standard + "; run tools.GenerateTables");
+        StateSpace computed = StateSpace.compute(standard);
+        check(StandardTables.STATE_COUNT == computed.stateCount(), "StandardTables hold "
+                + StandardTables.STATE_COUNT + " states, the rules give " + computed.stateCount());
+        int[][] generated = StandardTables.successors();
+        for (int id = 0; id < computed.stateCount(); id++) {
+            check(Arrays.equals(generated[id], computed.successors(id)), "generated successors of state " + id
+                    + " are " + Arrays.toString(generated[id]) + ", computed "
+                    + Arrays.toString(computed.successors(id)) + "; run tools.GenerateTables");
+        }
+        for (int from = 0; from < 9; from++) {
+            for (int to = 0; to < 9; to++) {
+                int king = Math.max(Math.abs(from / 3 - to / 3), Math.abs(from % 3 - to % 3));
+                check(StandardTables.cellDistance(from, to) == king, "generated distance from cell " + from
+                        + " to " + to + " is " + StandardTables.cellDistance(from, to) + ", expected " + king);
+            }
+        }
+    }
+
+    private static void checkSpace(MoveRules rules) {
+        StateSpace cached = StateSpace.of(rules);
+        StateSpace computed = StateSpace.compute(rules);
+        check(cached.stateCount() == computed.stateCount(), rules + ": " + cached.stateCount() + " states, computed "
+                + computed.stateCount());
+        for (int id = 0; id < computed.stateCount(); id++) {
+            check(Arrays.equals(cached.successors(id), computed.successors(id)), rules + ": successors of state "
+                    + id + " differ from the computed ones");
+            check(Arrays.equals(cached.predecessors(id), computed.predecessors(id)), rules
+                    + ": predecessors of state " + id + " differ from the computed ones");
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
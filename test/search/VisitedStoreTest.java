@@ -0,0 +1,106 @@
+package search;
+
+import model.GameState;
+import model.MoveRules;
+import tools.CorpusReport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that every {@link VisitedStore.Kind} behaves like the on-heap
+ * store: the stores themselves against a map, A* with each kind against A*
+ * with HEAP, and that a packed store too narrow for the move limit is
+ * rejected when it is configured rather than when the search runs.
+ *
+ * Plain Java, no framework; see the README for how to run it.
+ */
+public final class VisitedStoreTest {
+
+    private static final String[] RULES = {"eight:RGB", "four:RB:wrap", "knight:RRGB", "sliding:BGR"};
+    private static final int INSTANCES = 300;
+
+    public static void main(String[] args) {
+        checkStores();
+        checkSolves();
+        checkPackedLimit();
+        System.out.println("VisitedStoreTest passed");
+    }
+
+    private static void checkStores() {
+        Random rnd = new Random(3);
+        for (VisitedStore.Kind kind : VisitedStore.Kind.values()) {
+            for (int maxG : new int[]{2, 14, PackedVisitedStore.MAX_G}) {
+                int stateCount = 50_000;
+                VisitedStore store = VisitedStore.create(kind, stateCount, maxG);
+                Map<Long, Integer> expected = new HashMap<>();
+                for (int i = 0; i < 20_000; i++) {
+                    long id = rnd.nextInt(stateCount);
+                    int g = rnd.nextInt(maxG + 1);
+                    store.put(id, g);
+                    expected.put(id, g);
+                }
+                for (long id = 0; id < stateCount; id++) {
+                    Integer g = expected.get(id);
+                    int want = g == null ? VisitedStore.UNSEEN : g;
+                    check(store.get(id) == want, kind + " maxG " + maxG + ": id " + id + " holds " + store.get(id)
+                            + ", expected " + want);
+                }
+            }
+        }
+    }
+
+    private static void checkSolves() {
+        for (String spec : RULES) {
+            MoveRules rules = MoveRules.parse(spec);
+            List<GameState> placements = CorpusReport.allPlacements(rules);
+            Random rnd = new Random(8);
+            for (int i = 0; i < INSTANCES; i++) {
+                GameState initial = placements.get(rnd.nextInt(placements.size()));
+                GameState goal = placements.get(rnd.nextInt(placements.size()));
+                int maxDepth = 1 + rnd.nextInt(14);
+                SearchResult heap = solve(rules, initial, goal, maxDepth, VisitedStore.Kind.HEAP);
+                for (VisitedStore.Kind kind : VisitedStore.Kind.values()) {
+                    SearchResult other = solve(rules, initial, goal, maxDepth, kind);
+                    String label = spec + " instance " + i + " with " + kind;
+                    check(other.getStatus() == heap.getStatus() && other.getCost() == heap.getCost(),
+                            label + ": cost " + other.getCost() + ", HEAP cost " + heap.getCost());
+                    check(other.getPath().equals(heap.getPath()), label + ": path differs from HEAP");
+                    check(other.getStats().getExpandedNodes() == heap.getStats().getExpandedNodes(),
+                            label + ": expansions differ from HEAP");
+                }
+            }
+        }
+    }
+
+    private static void checkPackedLimit() {
+        GameState initial = GameState.fromBoardString("RGB......", MoveRules.standard());
+        GameState goal = GameState.fromBoardString("......RGB", MoveRules.standard());
+        new AStarSolver(initial, goal, PackedVisitedStore.MAX_G).setVisitedStore(VisitedStore.Kind.PACKED_OFF_HEAP);
+        AStarSolver tooDeep = new AStarSolver(initial, goal, PackedVisitedStore.MAX_G + 1);
+        try {
+            tooDeep.setVisitedStore(VisitedStore.Kind.PACKED_OFF_HEAP);
+            throw new AssertionError("a packed store accepted a move limit of " + (PackedVisitedStore.MAX_G + 1));
+        } catch (IllegalArgumentException expected) {
+            // Rejected when configured.
+        }
+        tooDeep.setVisitedStore(VisitedStore.Kind.HASH_OFF_HEAP);
+        check(tooDeep.solve(null).getCost() == new AStarSolver(initial, goal, 10).solve(null).getCost(),
+                "hash store with a deep move limit gave a different cost");
+    }
+
+    private static SearchResult solve(MoveRules rules, GameState initial, GameState goal, int maxDepth,
+                                      VisitedStore.Kind kind) {
+        AStarSolver solver = new AStarSolver(initial, goal, maxDepth, rules);
+        solver.setVisitedStore(kind);
+        return solver.solveUnrecorded(null, SearchBudget.unlimited());
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}